@@ -0,0 +1,185 @@
+package Animations;
+
+import java.util.Random;
+
+import engine.PoolStats;
+
+/**
+ * Explosion particles, kept in parallel primitive arrays so that spawning,
+ * moving and retiring them never allocates. Live particles are packed at
+ * the front of the arrays, a finished particle is replaced by the last one.
+ */
+public class ParticleSystem {
+
+    /** Most particles alive at once across every explosion, by default. */
+    public static final int MAX_PARTICLES = 4096;
+    /** Particles spawned by each explosion. */
+    private static final int PARTICLES_PER_EXPLOSION = 40;
+    /** Updates a particle lives for. */
+    private static final int LIFE = 60;
+    /** Gravity added to the vertical speed each update. */
+    private static final float GRAVITY = 0.1f;
+    /** Speed kept from one update to the next. */
+    private static final float DAMPING = 0.98f;
+    /** Number of spawn directions. */
+    private static final int ANGLES = 256;
+    /** Cosine and sine of each spawn direction. */
+    private static final float[] COS = new float[ANGLES];
+    private static final float[] SIN = new float[ANGLES];
+
+    static {
+        for (int i = 0; i < ANGLES; i++) {
+            double angle = 2 * Math.PI * i / ANGLES;
+            COS[i] = (float) Math.cos(angle);
+            SIN[i] = (float) Math.sin(angle);
+        }
+    }
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] dx;
+    private final float[] dy;
+    private final int[] life;
+    /** Whether each particle belongs to an enemy explosion. */
+    private final boolean[] enemy;
+    /** Whether each particle belongs to a large, final explosion. */
+    private final boolean[] large;
+    /** Number of live particles. */
+    private int count;
+    /** Explosions spawned in full, and explosions cut short. */
+    private final PoolStats stats;
+
+    private final Random random = new Random();
+
+    /**
+     * Constructor, room for the default number of particles.
+     */
+    public ParticleSystem() {
+        this(MAX_PARTICLES);
+    }
+
+    /**
+     * Constructor, allocates room for every particle up front.
+     *
+     * @param capacity
+     *            Most particles alive at once.
+     */
+    public ParticleSystem(final int capacity) {
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.dx = new float[capacity];
+        this.dy = new float[capacity];
+        this.life = new int[capacity];
+        this.enemy = new boolean[capacity];
+        this.large = new boolean[capacity];
+        this.stats = new PoolStats("Particle", capacity);
+    }
+
+    /**
+     * Spawns the particles of an explosion. Particles past the budget are
+     * not spawned.
+     *
+     * @param startX
+     *            Center of the explosion in the X axis.
+     * @param startY
+     *            Center of the explosion in the Y axis.
+     * @param enemy
+     *            Whether an enemy exploded, which picks the palette.
+     * @param finalExplosion
+     *            Whether to use large particles.
+     */
+    public void spawnExplosion(final float startX, final float startY,
+            final boolean enemy, final boolean finalExplosion) {
+        int spawned = Math.min(PARTICLES_PER_EXPLOSION, x.length - count);
+        for (int n = 0; n < spawned; n++) {
+            int i = count++;
+            int angle = random.nextInt(ANGLES);
+            float speed = 2 + random.nextFloat() * 2;
+            this.x[i] = startX;
+            this.y[i] = startY;
+            this.dx[i] = COS[angle] * speed;
+            this.dy[i] = SIN[angle] * speed;
+            this.life[i] = LIFE;
+            this.enemy[i] = enemy;
+            this.large[i] = finalExplosion;
+        }
+        if (spawned == PARTICLES_PER_EXPLOSION)
+            stats.recordHit(count);
+        else
+            stats.recordMiss(count);
+    }
+
+    /**
+     * Moves every particle by one update and retires the finished ones.
+     */
+    public void update() {
+        int i = 0;
+        while (i < count) {
+            // update position
+            x[i] += dx[i];
+            y[i] += dy[i];
+
+            // gravity and damping
+            dy[i] += GRAVITY;
+            dx[i] *= DAMPING;
+            dy[i] *= DAMPING;
+
+            if (--life[i] > 0) {
+                i++;
+            } else {
+                // Swap the last particle in; it is updated next.
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                dx[i] = dx[last];
+                dy[i] = dy[last];
+                life[i] = life[last];
+                enemy[i] = enemy[last];
+                large[i] = large[last];
+            }
+        }
+    }
+
+    /**
+     * Removes every particle.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return Usage counters of the particle slots.
+     */
+    public PoolStats getStats() {
+        return stats;
+    }
+
+    public float getX(final int i) {
+        return x[i];
+    }
+
+    public float getY(final int i) {
+        return y[i];
+    }
+
+    /**
+     * @param i
+     *            Index of a live particle.
+     * @return Opacity of the particle, fading out over its life.
+     */
+    public int getAlpha(final int i) {
+        return Math.min(255, 255 * (life[i] + 1) / LIFE);
+    }
+
+    public boolean isEnemy(final int i) {
+        return enemy[i];
+    }
+
+    public boolean isLarge(final int i) {
+        return large[i];
+    }
+}
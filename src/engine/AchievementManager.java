@@ -93,10 +93,18 @@ public class AchievementManager {
     }
 
 
+    /**
+     * @return Achievement of the toast showing, or null if there is none.
+     */
+    public Achievement getActiveToast() {
+        return (activeToast != null && activeToast.alive()) ? activeToast.achievement : null;
+    }
+
     public List<Achievement> getActiveToasts() {
         List<Achievement> activeList = new ArrayList<>();
-        if (activeToast != null && activeToast.alive()) {
-            activeList.add(activeToast.achievement);
+        Achievement achievement = getActiveToast();
+        if (achievement != null) {
+            activeList.add(achievement);
         }
         return activeList;
     }
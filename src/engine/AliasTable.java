@@ -0,0 +1,78 @@
+package engine;
+
+import java.util.Random;
+
+/**
+ * Samples an index with probability proportional to its weight in constant
+ * time, using Vose's alias method: each slot holds one outcome, kept with
+ * some probability, and the outcome that fills the rest of the slot.
+ */
+final class AliasTable {
+
+    /** Probability of keeping the outcome of each slot. */
+    private final double[] probability;
+    /** Outcome taken when the outcome of a slot is not kept. */
+    private final int[] alias;
+
+    /**
+     * Constructor, builds the table.
+     *
+     * @param weights
+     *            Weight of each outcome, not negative, not all zero.
+     */
+    AliasTable(final double[] weights) {
+        int n = weights.length;
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double sum = 0.0;
+        for (double weight : weights)
+            sum += weight;
+
+        // Weights scaled so that the average is 1, split into outcomes
+        // under and over the average.
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0)
+                small[smallCount++] = i;
+            else
+                large[largeCount++] = i;
+        }
+
+        // Fill the slot of each small outcome with part of a large one.
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0)
+                small[smallCount++] = more;
+            else
+                large[largeCount++] = more;
+        }
+        // Whatever is left is 1 up to rounding errors.
+        while (largeCount > 0)
+            this.probability[large[--largeCount]] = 1.0;
+        while (smallCount > 0)
+            this.probability[small[--smallCount]] = 1.0;
+    }
+
+    /**
+     * Picks an outcome.
+     *
+     * @param random
+     *            Source of the two random draws.
+     * @return Index of the outcome picked.
+     */
+    int sample(final Random random) {
+        int slot = random.nextInt(this.probability.length);
+        return random.nextDouble() < this.probability[slot] ? slot
+                : this.alias[slot];
+    }
+}
@@ -0,0 +1,306 @@
+package engine;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Plays every sound through a single line: an audio thread sums the
+ * voices playing into a small buffer, clips the result and writes it to
+ * the line, one buffer after the other. Playing a sound only takes a free
+ * voice, it never opens a line.
+ *
+ * The work stays bounded however many sounds are triggered: a sound
+ * triggered again right after it started makes that voice louder instead
+ * of taking another, each sound has a cap on its own voices, and once
+ * every voice is taken, a new sound takes over the least important one.
+ */
+final class AudioMixer implements Runnable {
+
+    /** Frames mixed at a time, about 12 ms. */
+    static final int BUFFER_FRAMES = 512;
+    /** Most voices playing at once. */
+    static final int MAX_VOICES = 32;
+    /**
+     * Frames after a voice starts during which the same sound triggered
+     * again is merged into it, a bit more than a frame at 60 fps.
+     */
+    static final int COALESCE_FRAMES = 1024;
+    /** Gain added to a voice for each trigger merged into it, relative. */
+    private static final float COALESCE_BOOST = 0.5f;
+    /** Most gain a voice merging triggers reaches, relative. */
+    private static final float MAX_COALESCED_GAIN = 2f;
+
+    /** Application logger. */
+    private static final Logger LOGGER = Core.getLogger();
+
+    /** Singleton instance of the class. */
+    private static AudioMixer instance;
+
+    /** Voices, free ones having no sample. */
+    private final Voice[] voices = new Voice[MAX_VOICES];
+    /** Sum of the voices, for both channels, before clipping. */
+    private final int[] mixBuffer = new int[BUFFER_FRAMES * 2];
+    /** Mixed frames, in the line's format. */
+    private final byte[] outputBuffer = new byte[BUFFER_FRAMES * 4];
+    /** Line written to, null if sound is unavailable. */
+    private final SourceDataLine line;
+    /** Id given to the next voice started, never 0. */
+    private int nextId = 1;
+    /** Frames mixed since the mixer started, as a clock. */
+    private long mixedFrames;
+    /** Background music streamed under the voices, null if there is none. */
+    private MusicStream music;
+
+    /**
+     * A sample being played.
+     */
+    private static final class Voice {
+        /** Id returned when the voice was started. */
+        private int id;
+        /** Sound played, null when the voice is free. */
+        private SampleBank.Sample sample;
+        /** Samples played, null when the voice is free. */
+        private short[] data;
+        /** Frame of the mixer clock the voice started at. */
+        private long startFrame;
+        /** Importance of the sound, the lowest is taken over first. */
+        private int priority;
+        /** Next frame to play. */
+        private int position;
+        /** Linear gain, 1 is the sample's own volume. */
+        private float gain;
+        /** Whether the sample starts over when it ends. */
+        private boolean loop;
+    }
+
+    /**
+     * Constructor, starts the audio thread.
+     *
+     * @param line
+     *            Open line to write to, or null if sound is unavailable.
+     */
+    AudioMixer(final SourceDataLine line) {
+        for (int i = 0; i < MAX_VOICES; i++)
+            this.voices[i] = new Voice();
+        this.line = line;
+
+        if (this.line != null) {
+            Thread thread = new Thread(this, "Audio mixer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Opens and starts a line in the sample bank's format.
+     *
+     * @return The line, or null if sound is unavailable.
+     */
+    private static SourceDataLine openLine() {
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(SampleBank.FORMAT);
+            // Room for two buffers: one playing, one being written.
+            line.open(SampleBank.FORMAT, BUFFER_FRAMES * 4 * 2);
+            line.start();
+            return line;
+        } catch (LineUnavailableException | IllegalArgumentException
+                | SecurityException e) {
+            LOGGER.warning("Sound unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the shared instance of AudioMixer, opening the line the
+     * first time.
+     *
+     * @return Shared instance of AudioMixer.
+     */
+    static AudioMixer getInstance() {
+        if (instance == null)
+            instance = new AudioMixer(openLine());
+        return instance;
+    }
+
+    /**
+     * Starts playing a sample, unless it merges into a voice that just
+     * started the same sample, or no voice is free for it.
+     *
+     * @param sample
+     *            Sample to play.
+     * @param gain
+     *            Linear gain of the voice.
+     * @param loop
+     *            Whether the sample starts over when it ends.
+     * @param priority
+     *            Importance of the sound. It only takes over voices of
+     *            sounds of the same importance or lower.
+     * @param maxVoices
+     *            Most voices playing the sample at once. Past that, the
+     *            one that played longest starts over.
+     * @return Id of the voice, or 0 if it could not be played.
+     */
+    synchronized int play(final SampleBank.Sample sample, final float gain,
+            final boolean loop, final int priority, final int maxVoices) {
+        if (this.line == null || sample.getFrameCount() == 0)
+            return 0;
+
+        Voice free = null;
+        Voice oldestSame = null;
+        Voice weakest = null;
+        int sameCount = 0;
+        for (Voice voice : this.voices) {
+            if (voice.data == null) {
+                if (free == null)
+                    free = voice;
+                continue;
+            }
+            if (voice.sample == sample) {
+                if (!loop && !voice.loop
+                        && this.mixedFrames - voice.startFrame < COALESCE_FRAMES) {
+                    voice.gain = Math.min(voice.gain + gain * COALESCE_BOOST,
+                            gain * MAX_COALESCED_GAIN);
+                    return voice.id;
+                }
+                sameCount++;
+                if (oldestSame == null || voice.startFrame < oldestSame.startFrame)
+                    oldestSame = voice;
+            }
+            if (weakest == null || voice.priority < weakest.priority
+                    || (voice.priority == weakest.priority
+                            && voice.startFrame < weakest.startFrame))
+                weakest = voice;
+        }
+
+        Voice voice;
+        if (sameCount >= maxVoices)
+            voice = oldestSame;
+        else if (free != null)
+            voice = free;
+        else if (weakest.priority <= priority)
+            voice = weakest;
+        else
+            return 0;
+
+        voice.id = this.nextId++;
+        if (this.nextId == 0)
+            this.nextId = 1;
+        voice.sample = sample;
+        voice.data = sample.getData();
+        voice.position = 0;
+        voice.startFrame = this.mixedFrames;
+        voice.priority = priority;
+        voice.gain = gain;
+        voice.loop = loop;
+        return voice.id;
+    }
+
+    /**
+     * @return Whether a line is open for sounds to be played on.
+     */
+    boolean isAvailable() {
+        return this.line != null;
+    }
+
+    /**
+     * Sets the background music streamed under the voices.
+     *
+     * @param music
+     *            Music to mix in, or null for none.
+     */
+    synchronized void setMusic(final MusicStream music) {
+        this.music = music;
+    }
+
+    /**
+     * Stops a voice.
+     *
+     * @param id
+     *            Id of the voice, ignored if it already ended.
+     */
+    synchronized void stop(final int id) {
+        for (Voice voice : this.voices)
+            if (voice.data != null && voice.id == id)
+                release(voice);
+    }
+
+    /**
+     * Changes the gain of a voice.
+     *
+     * @param id
+     *            Id of the voice, ignored if it already ended.
+     * @param gain
+     *            New linear gain of the voice.
+     */
+    synchronized void setGain(final int id, final float gain) {
+        for (Voice voice : this.voices)
+            if (voice.data != null && voice.id == id)
+                voice.gain = gain;
+    }
+
+    /**
+     * Mixes the next frames of every voice.
+     *
+     * @param output
+     *            Buffer the frames are written to, 16 bit little endian.
+     * @param frames
+     *            Number of frames to mix, up to BUFFER_FRAMES.
+     */
+    synchronized void mix(final byte[] output, final int frames) {
+        int[] mix = this.mixBuffer;
+        int samples = frames * 2;
+        Arrays.fill(mix, 0, samples, 0);
+
+        for (Voice voice : this.voices) {
+            short[] data = voice.data;
+            if (data == null)
+                continue;
+            int gain = Math.round(voice.gain * 256);
+            int read = voice.position * 2;
+            for (int i = 0; i < samples; i++) {
+                if (read == data.length) {
+                    if (!voice.loop) {
+                        release(voice);
+                        break;
+                    }
+                    read = 0;
+                }
+                mix[i] += (data[read++] * gain) >> 8;
+            }
+            voice.position = read / 2;
+        }
+
+        if (this.music != null)
+            this.music.mixInto(mix, frames);
+        this.mixedFrames += frames;
+
+        for (int i = 0; i < samples; i++) {
+            int value = Math.max(Short.MIN_VALUE,
+                    Math.min(Short.MAX_VALUE, mix[i]));
+            output[i * 2] = (byte) value;
+            output[i * 2 + 1] = (byte) (value >> 8);
+        }
+    }
+
+    /** Frees a voice. */
+    private static void release(final Voice voice) {
+        voice.sample = null;
+        voice.data = null;
+    }
+
+    /**
+     * Audio thread: mixes a buffer and writes it, blocking while the line
+     * still has a buffer to play.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            mix(this.outputBuffer, BUFFER_FRAMES);
+            this.line.write(this.outputBuffer, 0, this.outputBuffer.length);
+        }
+    }
+}
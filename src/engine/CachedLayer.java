@@ -0,0 +1,144 @@
+package engine;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Part of a screen that only changes when its inputs do, such as the HUD.
+ * Its drawing is kept in an image and composited every frame, and is only
+ * redrawn when the inputs it was drawn from change.
+ */
+public final class CachedLayer {
+
+    /** Screen area covered by the layer. */
+    private final int positionX;
+    private final int positionY;
+    private final int width;
+    private final int height;
+
+    /** Drawing of the layer, in pixels of the buffer it was drawn for. */
+    private BufferedImage image;
+    /** Screen pixels per image pixel. */
+    private int scale;
+    /** Inputs the image was drawn from, null if drawn from numbers. */
+    private Object inputs;
+    /** Numbers the image was drawn from, null if drawn from an object. */
+    private int[] values;
+
+    /**
+     * Constructor, sets the screen area covered by the layer.
+     *
+     * @param positionX
+     *            Left side of the layer.
+     * @param positionY
+     *            Upper side of the layer.
+     * @param width
+     *            Width of the layer.
+     * @param height
+     *            Height of the layer.
+     */
+    public CachedLayer(final int positionX, final int positionY,
+            final int width, final int height) {
+        this.positionX = positionX;
+        this.positionY = positionY;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Forgets the current drawing, so the next frame draws it again.
+     */
+    public void invalidate() {
+        this.image = null;
+        this.inputs = null;
+        this.values = null;
+    }
+
+    /**
+     * Checks if the layer can be composited as it is.
+     *
+     * @param inputs
+     *            Values the layer is drawn from.
+     * @param scale
+     *            Screen pixels per pixel of the buffer being drawn.
+     * @return True if the layer was drawn from the same inputs and scale.
+     */
+    boolean isCurrent(final Object inputs, final int scale) {
+        return this.image != null && this.scale == scale
+                && this.values == null && Objects.equals(this.inputs, inputs);
+    }
+
+    /**
+     * Checks if the layer can be composited as it is.
+     *
+     * @param values
+     *            Numbers the layer is drawn from.
+     * @param scale
+     *            Screen pixels per pixel of the buffer being drawn.
+     * @return True if the layer was drawn from the same numbers and scale.
+     */
+    boolean isCurrent(final int[] values, final int scale) {
+        return this.image != null && this.scale == scale
+                && Arrays.equals(this.values, values);
+    }
+
+    /**
+     * Records the image drawn for a set of inputs.
+     *
+     * @param image
+     *            Drawing of the layer.
+     * @param inputs
+     *            Values it was drawn from.
+     * @param scale
+     *            Screen pixels per image pixel.
+     */
+    void update(final BufferedImage image, final Object inputs,
+            final int scale) {
+        this.image = image;
+        this.inputs = inputs;
+        this.values = null;
+        this.scale = scale;
+    }
+
+    /**
+     * Records the image drawn for a set of numbers, keeping a copy of them
+     * since the caller may fill the same array again.
+     *
+     * @param image
+     *            Drawing of the layer.
+     * @param values
+     *            Numbers it was drawn from.
+     * @param scale
+     *            Screen pixels per image pixel.
+     */
+    void update(final BufferedImage image, final int[] values,
+            final int scale) {
+        if (this.values == null || this.values.length != values.length)
+            this.values = new int[values.length];
+        System.arraycopy(values, 0, this.values, 0, values.length);
+        this.image = image;
+        this.inputs = null;
+        this.scale = scale;
+    }
+
+    BufferedImage getImage() {
+        return this.image;
+    }
+
+    int getPositionX() {
+        return this.positionX;
+    }
+
+    int getPositionY() {
+        return this.positionY;
+    }
+
+    int getWidth() {
+        return this.width;
+    }
+
+    int getHeight() {
+        return this.height;
+    }
+}
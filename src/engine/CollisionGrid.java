@@ -0,0 +1,270 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import entity.Entity;
+import entity.Entity.Team;
+
+/**
+ * Uniform grid over the screen, bucketing entities by the cells they cover
+ * and by team, so collision checks only look at nearby entities of the
+ * team they can hit.
+ *
+ * Entities are kept up to date incrementally: each tick, update() every
+ * entity still in play between beginUpdate() and endUpdate(). Entities
+ * that stayed in the same cells are left untouched, and entities that
+ * were not updated are dropped.
+ */
+public final class CollisionGrid {
+
+    /** Number of teams, one bucket each per cell. */
+    private static final int TEAMS = Team.values().length;
+
+    /** Side of a cell, in pixels. */
+    private final int cellSize;
+    /** Number of columns of cells. */
+    private final int columns;
+    /** Number of rows of cells. */
+    private final int rows;
+    /** Entries per cell and team, created on first use. */
+    private final List<List<Entry>> buckets;
+    /** Entry of every entity in the grid. */
+    private final Map<Entity, Entry> entries;
+    /** Current update, to find entities no longer in play. */
+    private int updateStamp;
+    /** Current query, to report entities covering several cells once. */
+    private int queryStamp;
+
+    /**
+     * Place of an entity in the grid.
+     */
+    private static final class Entry {
+        /** Entity in the grid. */
+        private final Entity entity;
+        /** Cells covered, inclusive, and team bucket. */
+        private int minColumn, minRow, maxColumn, maxRow, team;
+        /** Last update the entity was in play. */
+        private int updateStamp;
+        /** Last query the entity was reported by. */
+        private int queryStamp;
+
+        private Entry(final Entity entity) {
+            this.entity = entity;
+        }
+    }
+
+    /**
+     * Constructor, creates an empty grid.
+     *
+     * @param width
+     *            Width of the area covered.
+     * @param height
+     *            Height of the area covered.
+     * @param cellSize
+     *            Side of a cell, in pixels.
+     */
+    public CollisionGrid(final int width, final int height,
+            final int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (width + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        this.buckets = new ArrayList<List<Entry>>(Collections.nCopies(
+                this.columns * this.rows * TEAMS, (List<Entry>) null));
+        this.entries = new IdentityHashMap<Entity, Entry>();
+    }
+
+    /**
+     * Starts a tick of updates.
+     */
+    public void beginUpdate() {
+        this.updateStamp++;
+    }
+
+    /**
+     * Inserts an entity, or moves it to the cells it covers now.
+     *
+     * @param entity
+     *            Entity still in play.
+     */
+    public void update(final Entity entity) {
+        int minColumn = column(entity.getPositionX());
+        int maxColumn = column(entity.getPositionX() + entity.getWidth() - 1);
+        int minRow = row(entity.getPositionY());
+        int maxRow = row(entity.getPositionY() + entity.getHeight() - 1);
+        int team = entity.getTeam().ordinal();
+
+        Entry entry = this.entries.get(entity);
+        if (entry == null) {
+            entry = new Entry(entity);
+            this.entries.put(entity, entry);
+        } else if (minColumn != entry.minColumn || minRow != entry.minRow
+                || maxColumn != entry.maxColumn || maxRow != entry.maxRow
+                || team != entry.team) {
+            unlink(entry);
+        } else {
+            entry.updateStamp = this.updateStamp;
+            return;
+        }
+        entry.minColumn = minColumn;
+        entry.minRow = minRow;
+        entry.maxColumn = maxColumn;
+        entry.maxRow = maxRow;
+        entry.team = team;
+        link(entry);
+        entry.updateStamp = this.updateStamp;
+    }
+
+    /**
+     * Ends a tick of updates, dropping entities that were not updated.
+     */
+    public void endUpdate() {
+        Iterator<Entry> iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.updateStamp != this.updateStamp) {
+                unlink(entry);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes an entity right away, such as a bullet that hit.
+     *
+     * @param entity
+     *            Entity to remove.
+     */
+    public void remove(final Entity entity) {
+        Entry entry = this.entries.remove(entity);
+        if (entry != null)
+            unlink(entry);
+    }
+
+    /**
+     * Removes every entity.
+     */
+    public void clear() {
+        for (Entry entry : this.entries.values())
+            unlink(entry);
+        this.entries.clear();
+    }
+
+    /**
+     * Collects the entities of a team that may overlap an entity. Each is
+     * reported once; exact collision checks are left to the caller.
+     *
+     * @param entity
+     *            Entity to look around.
+     * @param team
+     *            Team of the entities to report.
+     * @param result
+     *            List the entities are added to, cleared first.
+     * @return The result list.
+     */
+    public List<Entity> query(final Entity entity, final Team team,
+            final List<Entity> result) {
+        return query(entity.getPositionX() - 1, entity.getPositionY() - 1,
+                entity.getWidth() + 2, entity.getHeight() + 2, team, result);
+    }
+
+    /**
+     * Collects the entities of a team that may overlap an area, such as
+     * the span a bullet moved through. Each is reported once; exact
+     * collision checks are left to the caller.
+     *
+     * @param positionX
+     *            Left of the area.
+     * @param positionY
+     *            Top of the area.
+     * @param width
+     *            Width of the area.
+     * @param height
+     *            Height of the area.
+     * @param team
+     *            Team of the entities to report.
+     * @param result
+     *            List the entities are added to, cleared first.
+     * @return The result list.
+     */
+    public List<Entity> query(final int positionX, final int positionY,
+            final int width, final int height, final Team team,
+            final List<Entity> result) {
+        result.clear();
+        this.queryStamp++;
+        int minColumn = column(positionX);
+        int maxColumn = column(positionX + width - 1);
+        int minRow = row(positionY);
+        int maxRow = row(positionY + height - 1);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                List<Entry> bucket = this.buckets.get(bucket(column, row,
+                        team.ordinal()));
+                if (bucket == null)
+                    continue;
+                for (int i = 0; i < bucket.size(); i++) {
+                    Entry entry = bucket.get(i);
+                    if (entry.queryStamp != this.queryStamp) {
+                        entry.queryStamp = this.queryStamp;
+                        result.add(entry.entity);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds an entry to the buckets of the cells it covers.
+     */
+    private void link(final Entry entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++)
+            for (int column = entry.minColumn; column <= entry.maxColumn;
+                    column++) {
+                int index = bucket(column, row, entry.team);
+                List<Entry> bucket = this.buckets.get(index);
+                if (bucket == null) {
+                    bucket = new ArrayList<Entry>();
+                    this.buckets.set(index, bucket);
+                }
+                bucket.add(entry);
+            }
+    }
+
+    /**
+     * Removes an entry from the buckets of the cells it covered.
+     */
+    private void unlink(final Entry entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++)
+            for (int column = entry.minColumn; column <= entry.maxColumn;
+                    column++) {
+                List<Entry> bucket = this.buckets.get(bucket(column, row,
+                        entry.team));
+                // Swap with the last entry, order does not matter.
+                int i = bucket.indexOf(entry);
+                int last = bucket.size() - 1;
+                bucket.set(i, bucket.get(last));
+                bucket.remove(last);
+            }
+    }
+
+    /** Column of a position, clamped to the grid. */
+    private int column(final int positionX) {
+        return Math.max(0, Math.min(this.columns - 1,
+                Math.floorDiv(positionX, this.cellSize)));
+    }
+
+    /** Row of a position, clamped to the grid. */
+    private int row(final int positionY) {
+        return Math.max(0, Math.min(this.rows - 1,
+                Math.floorDiv(positionY, this.cellSize)));
+    }
+
+    private int bucket(final int column, final int row, final int team) {
+        return (row * this.columns + column) * TEAMS + team;
+    }
+}
@@ -0,0 +1,186 @@
+package engine;
+
+/**
+ * Lit pixels of a sprite at the size of the entity it is drawn for, packed
+ * 64 to a long word, so that testing two sprites for overlapping pixels
+ * costs a few word operations per row they share.
+ *
+ * Bit b of word w of a row is the pixel 64 * w + b from the left side of
+ * the entity.
+ */
+public final class CollisionMask {
+
+    /** Width of the mask, in screen pixels. */
+    private final int width;
+    /** Height of the mask, in screen pixels. */
+    private final int height;
+    /** Long words per row. */
+    private final int wordsPerRow;
+    /** Rows of the mask, one after the other. */
+    private final long[] words;
+
+    /**
+     * Constructor, packs a sprite scaled the same way SpriteCache draws it:
+     * each sprite pixel covers two screen pixels at the sprite's native
+     * size, stretched to the entity's size.
+     *
+     * @param sprite
+     *            Pixels of the sprite, as loaded from disk, or null for a
+     *            mask covering the whole entity.
+     * @param width
+     *            Width of the entity the sprite is drawn for.
+     * @param height
+     *            Height of the entity the sprite is drawn for.
+     */
+    CollisionMask(final boolean[][] sprite, final int width,
+            final int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.words = new long[this.wordsPerRow * height];
+
+        if (sprite == null || sprite.length == 0) {
+            fill(0, 0, width, height);
+            return;
+        }
+        int spriteWidth = sprite.length;
+        int spriteHeight = sprite[0].length;
+        float widthRatio = (float) width / (spriteWidth * 2);
+        float heightRatio = (float) height / (spriteHeight * 2);
+        int pixelWidth = (int) Math.ceil(widthRatio * 2);
+        int pixelHeight = (int) Math.ceil(heightRatio * 2);
+        for (int i = 0; i < spriteWidth; i++)
+            for (int j = 0; j < spriteHeight; j++)
+                if (sprite[i][j])
+                    fill((int) (i * 2 * widthRatio),
+                            (int) (j * 2 * heightRatio),
+                            pixelWidth, pixelHeight);
+    }
+
+    /** Lights a rectangle of pixels, clipped to the mask. */
+    private void fill(final int x, final int y, final int fillWidth,
+            final int fillHeight) {
+        int lastX = Math.min(this.width, x + fillWidth);
+        int lastY = Math.min(this.height, y + fillHeight);
+        for (int row = Math.max(0, y); row < lastY; row++)
+            for (int column = Math.max(0, x); column < lastX; column++)
+                this.words[row * this.wordsPerRow + (column >>> 6)]
+                        |= 1L << (column & 63);
+    }
+
+    /**
+     * Returns 64 pixels of a row starting at any column, pixels outside
+     * the mask being unlit.
+     */
+    private long window(final int row, final int column) {
+        int word = column >> 6;
+        int shift = column & 63;
+        int base = row * this.wordsPerRow;
+        long low = word >= 0 && word < this.wordsPerRow
+                ? this.words[base + word] : 0L;
+        if (shift == 0)
+            return low;
+        long high = word + 1 >= 0 && word + 1 < this.wordsPerRow
+                ? this.words[base + word + 1] : 0L;
+        return (low >>> shift) | (high << (64 - shift));
+    }
+
+    /**
+     * Checks if two masks have a lit pixel in common. Their bounding boxes
+     * are compared first, so masks far apart cost a couple of comparisons.
+     *
+     * @param a
+     *            First mask.
+     * @param ax
+     *            Left side of the first mask.
+     * @param ay
+     *            Upper side of the first mask.
+     * @param b
+     *            Second mask.
+     * @param bx
+     *            Left side of the second mask.
+     * @param by
+     *            Upper side of the second mask.
+     * @return True if the masks overlap.
+     */
+    public static boolean overlaps(final CollisionMask a, final int ax,
+            final int ay, final CollisionMask b, final int bx, final int by) {
+        if (ax >= bx + b.width || bx >= ax + a.width
+                || ay >= by + b.height || by >= ay + a.height)
+            return false;
+
+        int firstY = Math.max(ay, by);
+        int lastY = Math.min(ay + a.height, by + b.height);
+        int offsetX = ax - bx;
+        for (int y = firstY; y < lastY; y++) {
+            int rowA = y - ay;
+            int rowB = y - by;
+            for (int word = 0; word < a.wordsPerRow; word++) {
+                long bits = a.words[rowA * a.wordsPerRow + word];
+                if (bits != 0
+                        && (bits & b.window(rowB, offsetX + (word << 6))) != 0)
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds how far a mask moving straight up or down goes before it first
+     * has a lit pixel in common with another, so that fast sprites cannot
+     * step over what they hit. Only the steps during which the bounding
+     * boxes overlap are tested pixel by pixel.
+     *
+     * @param a
+     *            Moving mask.
+     * @param ax
+     *            Left side of the moving mask.
+     * @param fromY
+     *            Upper side of the moving mask at the start of the move.
+     * @param toY
+     *            Upper side of the moving mask at the end of the move.
+     * @param b
+     *            Mask standing still.
+     * @param bx
+     *            Left side of the mask standing still.
+     * @param by
+     *            Upper side of the mask standing still.
+     * @return Distance moved until the first contact, or -1 if there is
+     *         none.
+     */
+    public static int sweep(final CollisionMask a, final int ax,
+            final int fromY, final int toY, final CollisionMask b,
+            final int bx, final int by) {
+        if (ax >= bx + b.width || bx >= ax + a.width)
+            return -1;
+
+        // Upper sides at which the bounding boxes overlap vertically.
+        int lowestY = by - a.height + 1;
+        int highestY = by + b.height - 1;
+        int distance = Math.abs(toY - fromY);
+        int first, last;
+        if (toY >= fromY) {
+            first = lowestY - fromY;
+            last = highestY - fromY;
+        } else {
+            first = fromY - highestY;
+            last = fromY - lowestY;
+        }
+        first = Math.max(first, 0);
+        last = Math.min(last, distance);
+
+        int direction = toY >= fromY ? 1 : -1;
+        for (int step = first; step <= last; step++)
+            if (overlaps(a, ax, fromY + direction * step, b, bx, by))
+                return step;
+        return -1;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+}
@@ -25,6 +25,25 @@ public final class Core {
     private static final int WIDTH = 448;
     private static final int HEIGHT = 520;
     private static final int FPS = 60;
+    /**
+     * Frames drawn per second, independent of the FPS simulation rate.
+     * Set with -Dinvaders.renderRate, 0 draws as fast as possible.
+     */
+    private static final int RENDER_RATE =
+            Math.max(0, Integer.getInteger("invaders.renderRate", FPS));
+    /**
+     * Whether sprites, lines and particles are written straight into the
+     * back buffer instead of going through Java2D.
+     * Set with -Dinvaders.renderer=software.
+     */
+    private static final boolean SOFTWARE_RENDERING =
+            "software".equalsIgnoreCase(System.getProperty("invaders.renderer"));
+    /**
+     * Whether the game screen is drawn at native arcade resolution and
+     * upscaled. Set with -Dinvaders.nativeResolution=true.
+     */
+    private static final boolean NATIVE_RESOLUTION =
+            Boolean.getBoolean("invaders.nativeResolution");
 
     /** Lives per player (used to compute team pool in shared mode). */
     private static final int MAX_LIVES = 3;
@@ -66,8 +85,13 @@ public final class Core {
         int width = frame.getWidth();
         int height = frame.getHeight();
 
+        LOGGER.info("Simulating at " + FPS + " fps, rendering at "
+                + (RENDER_RATE == 0 ? "uncapped" : RENDER_RATE + " fps") + ".");
+
         gameSettings = GameSettings.getGameSettings();
         NUM_LEVELS = gameSettings.size(); // Initialize total number of levels
+        ItemDB.getInstance(); // Item data is read once, shared by every item
+        SampleBank.getInstance(); // Sounds are decoded once, before play starts
 
 
         // 2P mode: modified to null to allow for switch between 2 modes
@@ -241,6 +265,33 @@ public final class Core {
         return LOGGER;
     }
 
+    /**
+     * Getter for the rate at which screens are drawn.
+     *
+     * @return Frames drawn per second, 0 if uncapped.
+     */
+    public static int getRenderRate() {
+        return RENDER_RATE;
+    }
+
+    /**
+     * Checks if the software renderer was selected at startup.
+     *
+     * @return True if drawing bypasses Java2D for sprites and effects.
+     */
+    public static boolean isSoftwareRendering() {
+        return SOFTWARE_RENDERING;
+    }
+
+    /**
+     * Checks if the game screen draws at native arcade resolution.
+     *
+     * @return True if the game screen is drawn at half size and upscaled.
+     */
+    public static boolean isNativeResolution() {
+        return NATIVE_RESOLUTION;
+    }
+
     /**
      * Controls access to the drawing manager.
      *
@@ -7,6 +7,8 @@ import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
 import java.awt.Rectangle; // add this line
 import java.io.IOException;
@@ -18,13 +20,14 @@ import java.util.Map;
 import java.util.logging.Logger;
 
 import Animations.BasicGameSpace;
-import Animations.Explosion;
 import Animations.MenuSpace;
+import Animations.ParticleSystem;
 import com.sun.tools.javac.Main;
 import screen.Screen;
 import entity.Entity;
 import entity.Ship;
-import entity.Bullet;
+import entity.BulletSystem;
+import entity.World;
 
 /**
  * Manages screen drawing.
@@ -42,11 +45,16 @@ public final class DrawManager {
     private static FileManager fileManager;
     /** Application logger. */
     private static Logger logger;
-    /** Graphics context. */
-    private static Graphics graphics;
+    /** Number of buffers used for page flipping. */
+    private static final int NUM_BUFFERS = 2;
+    /** Accelerated page flipping strategy, null when unavailable. */
+    private static BufferStrategy bufferStrategy;
     /** Buffer Graphics. */
     private static Graphics backBufferGraphics;
-    /** Buffer image. */
+    /**
+     * Buffer image every frame is drawn into, kept between frames so a lost
+     * page can be shown again from it.
+     */
     private static BufferedImage backBuffer;
     /** Normal sized font. */
     private static Font fontRegular;
@@ -59,15 +67,82 @@ public final class DrawManager {
 
     /** Sprite types mapped to their images. */
     private static Map<SpriteType, boolean[][]> spriteMap;
+    /** Sprites already rasterized for a color and size. */
+    private static SpriteCache spriteCache;
+    /** Collision masks of each sprite type, one per size asked for. */
+    private static final CollisionMask[][] collisionMasks =
+            new CollisionMask[SpriteType.values().length][0];
+    /** Renderer of the buffer being drawn, null with Java2D. */
+    private static SoftwareRenderer softwareRenderer;
+    /** Software renderer of the full size back buffer. */
+    private static SoftwareRenderer backBufferRenderer;
+    /** Screen pixels per native framebuffer pixel. */
+    private static final int NATIVE_SCALE = 2;
+    /** Framebuffer at native arcade resolution, upscaled when shown. */
+    private static BufferedImage nativeBuffer;
+    /** Software renderer of the native framebuffer. */
+    private static SoftwareRenderer nativeRenderer;
+    /** Unscaled graphics sprites are copied with. */
+    private static Graphics spriteGraphics;
+    /** Screen pixels per pixel of the buffer being drawn. */
+    private static int pixelScale = 1;
 
-    private final java.util.List<Explosion> explosions = new java.util.ArrayList<>();
+    /**
+     * Damaged regions above which the whole screen is drawn instead, as a
+     * clip made of more regions costs more than it saves.
+     */
+    private static final int MAX_DAMAGED_REGIONS = 16;
+    /** Side of the area covered by a main menu star, glow included. */
+    private static final int MENU_STAR_SIZE = 4;
+    /** Regions changed since the last damage tracked frame, reused. */
+    private static final Rectangle[] damagedRegions =
+            new Rectangle[MAX_DAMAGED_REGIONS];
+    /** Number of regions in damagedRegions in use. */
+    private static int damagedRegionCount;
+    /** Whether the whole screen must be drawn again, set when exposed. */
+    private static volatile boolean fullyDamaged = true;
+    /** Screen the back buffer holds a damage tracked drawing of. */
+    private static Screen damagedScreen;
+    /** Whether the frame being drawn only redraws damaged regions. */
+    private static boolean damageTracking;
+    /** Area of the frame being drawn, reused between frames. */
+    private static final Path2D.Float damageClip =
+            new Path2D.Float(Path2D.WIND_NON_ZERO);
+    /** Whether the frame being drawn is clipped to damageClip. */
+    private static boolean damageClipped;
+
+    /** Particles of every running explosion. */
+    private final ParticleSystem particles = new ParticleSystem();
+    /** Picks particle sizes, flicker and jitter. */
+    private final Random particleRandom = new Random();
+    /** Draws the sprites of the entities in a world. */
+    private final World.SpriteRenderer worldRenderer = this::drawWorldSprite;
+    /** Explosion particles pre-rendered for the screen. */
+    private static ParticleStamps particleStamps;
+    /** Explosion particles pre-rendered for the native framebuffer. */
+    private static ParticleStamps nativeParticleStamps;
 
     /**
      * Stars background animations for both game and main menu
      * Star density specified as argument.
      * */
     BasicGameSpace basicGameSpace = new BasicGameSpace(100);
+
+    /** Heart drawn for each remaining life. */
+    private final Entity heartIcon = new Entity(0, 0, 11*2, 10*2, Color.RED) {
+        { setSpriteType(SpriteType.Heart); }
+    };
+    /** Enemy drawn next to the remaining ship count. */
+    private final Entity shipCountIcon = new Entity(0, 0, 12*2, 8*2, Color.GREEN) {
+        { setSpriteType(SpriteType.EnemyShipB2); }
+    };
     MenuSpace menuSpace = new MenuSpace(50);
+    /** Vertical position of each menu star in the back buffer. */
+    private int[] drawnMenuStarY;
+    /** Menu star and its glow, pre-rendered in menuStarColor. */
+    private BufferedImage menuStarStamp;
+    /** Color menuStarStamp was rendered in. */
+    private Color menuStarColor;
     int explosion_size = 2;
 
 
@@ -77,6 +152,21 @@ public final class DrawManager {
     // Label for back button
     private static final String BACK_LABEL = "< Back";
 
+    /** Gradient stops of background stars. */
+    private static final float[] STAR_FRACTIONS = {0.0f, 1.0f};
+    /** Gradient colors of background stars, as ARGB. */
+    private static final int[] STAR_COLORS = {0x32FFFFC8, 0x32FFFFC8};
+    /** Gradient colors of background stars on the last life, as ARGB. */
+    private static final int[] LAST_LIFE_STAR_COLORS = {0x64FF0000, 0x32FF0000};
+    /** Gradient colors of background stars, for Java2D. */
+    private static final Color[] STAR_GRADIENT = {
+            new Color(255, 255, 200, 50), new Color(255, 255, 200, 50)};
+    /** Gradient colors of background stars on the last life, for Java2D. */
+    private static final Color[] LAST_LIFE_STAR_GRADIENT = {
+            new Color(255, 0, 0, 100), new Color(255, 0, 0, 50)};
+    /** Alpha of the co-op half tints, 8% opacity. */
+    private static final int COOP_TINT_ALPHA = 20;
+
     /** Sprite types. */
     public static enum SpriteType {
         /** Player ship. */
@@ -167,6 +257,16 @@ public final class DrawManager {
             fontBig = fileManager.loadFont(24f);
             logger.info("Finished loading the fonts.");
 
+            // Until a frame is set, as when running headless, text is
+            // measured on an image and sprites are kept as plain images.
+            Graphics scratch = new BufferedImage(1, 1,
+                    BufferedImage.TYPE_INT_RGB).getGraphics();
+            fontRegularMetrics = scratch.getFontMetrics(fontRegular);
+            fontBigMetrics = scratch.getFontMetrics(fontBig);
+            scratch.dispose();
+            spriteCache = new SpriteCache(null);
+            particleStamps = new ParticleStamps(null, 1);
+
         } catch (IOException e) {
             logger.warning("Loading failed.");
         } catch (FontFormatException e) {
@@ -186,40 +286,282 @@ public final class DrawManager {
     }
 
     /**
-     * Sets the frame to draw the image on.
+     * Sets the frame to draw the image on, and sets up page flipping on it.
      *
      * @param currentFrame
      *                     Frame to draw on.
      */
     public void setFrame(final Frame currentFrame) {
         frame = currentFrame;
+        fontRegularMetrics = frame.getFontMetrics(fontRegular);
+        fontBigMetrics = frame.getFontMetrics(fontBig);
+        if (Core.isSoftwareRendering()) {
+            // Sprites stay plain ARGB images the renderer can read.
+            bufferStrategy = null;
+            spriteCache = new SpriteCache(null);
+            logger.info("Using the software renderer.");
+        } else {
+            bufferStrategy = createBufferStrategy(frame);
+            spriteCache = new SpriteCache(frame.getGraphicsConfiguration());
+        }
+        GraphicsConfiguration configuration = Core.isSoftwareRendering()
+                ? null : frame.getGraphicsConfiguration();
+        particleStamps = new ParticleStamps(configuration, 1);
+        nativeParticleStamps = Core.isNativeResolution()
+                ? new ParticleStamps(configuration, NATIVE_SCALE) : null;
     }
 
     /**
-     * First part of the drawing process. Initialises buffers, draws the
-     * background and prepares the images.
+     * Creates a page flipping strategy on the frame, preferring accelerated
+     * VolatileImage back buffers.
+     *
+     * @param frame
+     *               Frame to flip pages on.
+     * @return Buffer strategy of the frame, or null if none could be created.
+     */
+    private static BufferStrategy createBufferStrategy(final Frame frame) {
+        ImageCapabilities accelerated = new ImageCapabilities(true);
+        try {
+            frame.createBufferStrategy(NUM_BUFFERS, new BufferCapabilities(
+                    accelerated, accelerated, null));
+            logger.info("Using accelerated page flipping.");
+        } catch (AWTException e) {
+            try {
+                frame.createBufferStrategy(NUM_BUFFERS);
+                logger.info("Using unaccelerated page flipping.");
+            } catch (IllegalStateException ise) {
+                logger.warning("Page flipping unavailable, drawing through an image.");
+                return null;
+            }
+        } catch (IllegalStateException e) {
+            logger.warning("Page flipping unavailable, drawing through an image.");
+            return null;
+        }
+        return frame.getBufferStrategy();
+    }
+
+    /**
+     * First part of the drawing process. Prepares the back buffer and draws
+     * the background.
      *
      * @param screen
      *               Screen to draw in.
      */
     public void initDrawing(final Screen screen) {
-        backBuffer = new BufferedImage(screen.getWidth(), screen.getHeight(),
-                BufferedImage.TYPE_INT_RGB);
-
-        graphics = frame.getGraphics();
-        backBufferGraphics = backBuffer.getGraphics();
+        initDrawing(screen, false);
+    }
 
-        backBufferGraphics.setColor(Color.BLACK);
-        backBufferGraphics
-                .fillRect(0, 0, screen.getWidth(), screen.getHeight());
+    /**
+     * First part of the drawing process. Prepares the back buffer and draws
+     * the background.
+     *
+     * @param screen
+     *               Screen to draw in.
+     * @param nativeResolution
+     *               Whether to draw at native arcade resolution, half the
+     *               screen size, and upscale the result once.
+     */
+    public void initDrawing(final Screen screen,
+                            final boolean nativeResolution) {
+        if (nativeResolution) {
+            pixelScale = NATIVE_SCALE;
+            damageTracking = false;
+            damagedScreen = null;
+            int width = screen.getWidth() / NATIVE_SCALE;
+            int height = screen.getHeight() / NATIVE_SCALE;
+            if (nativeBuffer == null || nativeBuffer.getWidth() != width
+                    || nativeBuffer.getHeight() != height) {
+                nativeBuffer = new BufferedImage(width, height,
+                        BufferedImage.TYPE_INT_RGB);
+                if (Core.isSoftwareRendering())
+                    nativeRenderer = new SoftwareRenderer(nativeBuffer,
+                            NATIVE_SCALE);
+            }
+            softwareRenderer = nativeRenderer;
+            // Sprites are rasterized at native size and copied unscaled,
+            // everything else keeps drawing in screen coordinates.
+            spriteGraphics = nativeBuffer.createGraphics();
+            Graphics2D graphics = nativeBuffer.createGraphics();
+            graphics.scale(1.0 / NATIVE_SCALE, 1.0 / NATIVE_SCALE);
+            backBufferGraphics = graphics;
+        } else {
+            pixelScale = 1;
+            damageTracking = false;
+            // The back buffer no longer holds the damage tracked drawing.
+            damagedScreen = null;
+            prepareBackBuffer(screen);
+            backBufferGraphics = backBuffer.createGraphics();
+            softwareRenderer = backBufferRenderer;
+            spriteGraphics = backBufferGraphics;
+        }
 
-        fontRegularMetrics = backBufferGraphics.getFontMetrics(fontRegular);
-        fontBigMetrics = backBufferGraphics.getFontMetrics(fontBig);
+        if (softwareRenderer != null) {
+            softwareRenderer.clear(Color.BLACK.getRGB());
+        } else {
+            backBufferGraphics.setColor(Color.BLACK);
+            backBufferGraphics
+                    .fillRect(0, 0, screen.getWidth(), screen.getHeight());
+        }
 
         // drawBorders(screen);
         // drawGrid(screen);
     }
 
+    /**
+     * First part of the drawing process for an image instead of the frame,
+     * such as in RendererBenchmark. Draws the background.
+     *
+     * @param image
+     *               Image to draw in.
+     * @param renderer
+     *               Software renderer of the image, or null to draw with
+     *               Java2D.
+     */
+    void initDrawing(final BufferedImage image,
+                     final SoftwareRenderer renderer) {
+        pixelScale = 1;
+        damageTracking = false;
+        damagedScreen = null;
+        backBufferGraphics = image.createGraphics();
+        spriteGraphics = backBufferGraphics;
+        softwareRenderer = renderer;
+
+        if (softwareRenderer != null) {
+            softwareRenderer.clear(Color.BLACK.getRGB());
+        } else {
+            backBufferGraphics.setColor(Color.BLACK);
+            backBufferGraphics.fillRect(0, 0, image.getWidth(),
+                    image.getHeight());
+        }
+    }
+
+    /**
+     * Allocates the back buffer image, if it does not match the screen.
+     *
+     * @param screen
+     *               Screen to draw in.
+     */
+    private static void prepareBackBuffer(final Screen screen) {
+        if (backBuffer == null
+                || backBuffer.getWidth() != screen.getWidth()
+                || backBuffer.getHeight() != screen.getHeight()) {
+            backBuffer = new BufferedImage(screen.getWidth(),
+                    screen.getHeight(), BufferedImage.TYPE_INT_RGB);
+            backBufferRenderer = Core.isSoftwareRendering()
+                    ? new SoftwareRenderer(backBuffer) : null;
+            damagedScreen = null;
+        }
+    }
+
+    /**
+     * Marks a region of the screen as changed, so the next damage tracked
+     * frame draws it again.
+     *
+     * @param positionX
+     *               Left side of the region.
+     * @param positionY
+     *               Upper side of the region.
+     * @param width
+     *               Width of the region.
+     * @param height
+     *               Height of the region.
+     */
+    public void damage(final int positionX, final int positionY,
+                       final int width, final int height) {
+        if (fullyDamaged)
+            return;
+        if (damagedRegionCount == MAX_DAMAGED_REGIONS) {
+            fullyDamaged = true;
+            return;
+        }
+        Rectangle region = damagedRegions[damagedRegionCount];
+        if (region == null)
+            damagedRegions[damagedRegionCount] = region = new Rectangle();
+        region.setBounds(positionX, positionY, width, height);
+        damagedRegionCount++;
+    }
+
+    /**
+     * Marks the whole screen as changed. Safe to call from the event
+     * dispatch thread.
+     */
+    public void damageAll() {
+        fullyDamaged = true;
+    }
+
+    /**
+     * Marks a line of text in the regular font as changed, across the
+     * whole screen.
+     *
+     * @param screen
+     *               Screen the line is drawn on.
+     * @param baseline
+     *               Baseline of the text.
+     */
+    public void damageRegularLine(final Screen screen, final int baseline) {
+        damage(0, baseline - fontRegularMetrics.getAscent(),
+                screen.getWidth(), fontRegularMetrics.getHeight());
+    }
+
+    /**
+     * Marks the back button as changed, such as when it is hovered.
+     */
+    public void damageBackButton() {
+        int margin = 12;
+        damage(margin, margin, fontRegularMetrics.stringWidth(BACK_LABEL),
+                fontRegularMetrics.getHeight());
+    }
+
+    /**
+     * First part of the drawing process for screens that track damage.
+     * The back buffer keeps the previous frame, and only regions damaged
+     * since then are cleared and drawn again under a clip.
+     *
+     * @param screen
+     *               Screen to draw in.
+     * @return False if nothing changed, and the frame should be skipped.
+     */
+    public boolean initDamagedDrawing(final Screen screen) {
+        if (screen != damagedScreen)
+            fullyDamaged = true;
+        boolean full = fullyDamaged;
+        fullyDamaged = false;
+        if (!full && damagedRegionCount == 0)
+            return false;
+
+        beginDamagedFrame(screen);
+        damageClipped = !full;
+        if (damageClipped) {
+            damageClip.reset();
+            for (int i = 0; i < damagedRegionCount; i++)
+                damageClip.append(damagedRegions[i], false);
+            backBufferGraphics.setClip(damageClip);
+        }
+        damagedRegionCount = 0;
+
+        backBufferGraphics.setColor(Color.BLACK);
+        backBufferGraphics.fillRect(0, 0, screen.getWidth(), screen.getHeight());
+        return true;
+    }
+
+    /**
+     * Points the drawing methods at the retained back buffer, for a damage
+     * tracked frame.
+     *
+     * @param screen
+     *               Screen to draw in.
+     */
+    private void beginDamagedFrame(final Screen screen) {
+        prepareBackBuffer(screen);
+        damagedScreen = screen;
+        damageTracking = true;
+        pixelScale = 1;
+        // Direct pixel writes would ignore the clip.
+        softwareRenderer = null;
+        backBufferGraphics = backBuffer.createGraphics();
+        spriteGraphics = backBufferGraphics;
+    }
+
     /**
      * Draws the completed drawing on screen.
      *
@@ -227,8 +569,210 @@ public final class DrawManager {
      *               Screen to draw on.
      */
     public void completeDrawing(final Screen screen) {
-        graphics.drawImage(backBuffer, frame.getInsets().left,
-                frame.getInsets().top, frame);
+        backBufferGraphics.dispose();
+        if (pixelScale != 1)
+            spriteGraphics.dispose();
+        // Headless, as in MenuBenchmark, there is nothing to show.
+        if (frame == null)
+            return;
+
+        if (bufferStrategy != null) {
+            // Pages are not kept between flips, so the whole back buffer
+            // is copied even when only damaged regions were drawn again.
+            showPage();
+        } else {
+            Graphics graphics = frame.getGraphics();
+            if (graphics == null)
+                return;
+            if (damageTracking && damageClipped) {
+                Insets insets = frame.getInsets();
+                graphics.translate(insets.left, insets.top);
+                graphics.setClip(damageClip);
+                graphics.translate(-insets.left, -insets.top);
+            }
+            drawBackBuffer(graphics);
+            graphics.dispose();
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+
+    /**
+     * Shows the back buffer through page flipping. A page whose contents
+     * were lost while it was drawn or shown is drawn again from the back
+     * buffer, which is never lost.
+     */
+    private void showPage() {
+        do {
+            do {
+                Graphics graphics = bufferStrategy.getDrawGraphics();
+                drawBackBuffer(graphics);
+                graphics.dispose();
+            } while (bufferStrategy.contentsRestored());
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Copies the back buffer of the frame being drawn to the frame.
+     *
+     * @param graphics
+     *               Graphics of the frame, or of its page flipping buffer.
+     */
+    private void drawBackBuffer(final Graphics graphics) {
+        if (pixelScale != 1) {
+            drawUpscaled(graphics);
+            return;
+        }
+        Insets insets = frame.getInsets();
+        graphics.drawImage(backBuffer, insets.left, insets.top, null);
+    }
+
+    /**
+     * Copies the native framebuffer to the frame, scaled by the largest
+     * integer factor that fits and centered, with nearest neighbour
+     * sampling so pixels stay square.
+     *
+     * @param graphics
+     *               Graphics of the frame, or of its page flipping buffer.
+     */
+    private void drawUpscaled(final Graphics graphics) {
+        Insets insets = frame.getInsets();
+        Dimension size = frame.getSize();
+        int contentWidth = size.width - insets.left - insets.right;
+        int contentHeight = size.height - insets.top - insets.bottom;
+        int scale = Math.max(1, Math.min(
+                contentWidth / nativeBuffer.getWidth(),
+                contentHeight / nativeBuffer.getHeight()));
+        int width = nativeBuffer.getWidth() * scale;
+        int height = nativeBuffer.getHeight() * scale;
+        int x = insets.left + Math.max(0, (contentWidth - width) / 2);
+        int y = insets.top + Math.max(0, (contentHeight - height) / 2);
+
+        if (graphics instanceof Graphics2D)
+            ((Graphics2D) graphics).setRenderingHint(
+                    RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        graphics.drawImage(nativeBuffer, x, y, width, height, null);
+    }
+
+    /**
+     * Composites a cached layer, drawing it again first if the inputs it
+     * depends on changed since it was last drawn.
+     *
+     * @param layer
+     *               Layer to draw.
+     * @param inputs
+     *               Values the layer is drawn from, compared with equals.
+     * @param painter
+     *               Draws the layer with the usual DrawManager methods, in
+     *               screen coordinates.
+     */
+    public void drawCachedLayer(final CachedLayer layer, final Object inputs,
+                                final Runnable painter) {
+        if (!layer.isCurrent(inputs, pixelScale))
+            layer.update(paintLayer(layer, painter), inputs, pixelScale);
+        compositeLayer(layer);
+    }
+
+    /**
+     * Composites a cached layer, drawing it again first if the numbers it
+     * is drawn from changed since it was last drawn. Nothing is allocated
+     * while they stay the same.
+     *
+     * @param layer
+     *               Layer to draw.
+     * @param inputs
+     *               Values the layer is drawn from, compared by content.
+     * @param painter
+     *               Draws the layer with the usual DrawManager methods, in
+     *               screen coordinates.
+     */
+    public void drawCachedLayer(final CachedLayer layer, final int[] inputs,
+                                final Runnable painter) {
+        if (!layer.isCurrent(inputs, pixelScale))
+            layer.update(paintLayer(layer, painter), inputs, pixelScale);
+        compositeLayer(layer);
+    }
+
+    /**
+     * Draws a cached layer again, into its image when the size still fits.
+     *
+     * @return Image holding the new drawing.
+     */
+    private BufferedImage paintLayer(final CachedLayer layer,
+                                     final Runnable painter) {
+        int scale = pixelScale;
+        int originX = Math.floorDiv(layer.getPositionX(), scale);
+        int originY = Math.floorDiv(layer.getPositionY(), scale);
+        int width = Math.max(1, -Math.floorDiv(
+                -(layer.getPositionX() + layer.getWidth()), scale) - originX);
+        int height = Math.max(1, -Math.floorDiv(
+                -(layer.getPositionY() + layer.getHeight()), scale) - originY);
+        BufferedImage image = layer.getImage();
+        if (image == null || image.getWidth() != width
+                || image.getHeight() != height)
+            image = createLayerImage(width, height);
+
+        Graphics2D layerSprites = image.createGraphics();
+        layerSprites.setComposite(AlphaComposite.Clear);
+        layerSprites.fillRect(0, 0, width, height);
+        layerSprites.setComposite(AlphaComposite.SrcOver);
+        Graphics2D layerGraphics = (Graphics2D) layerSprites.create();
+        layerGraphics.scale(1.0 / scale, 1.0 / scale);
+        layerGraphics.translate(-originX * scale, -originY * scale);
+        layerSprites.translate(-originX, -originY);
+
+        // Point the drawing methods at the layer for the painter.
+        Graphics frameGraphics = backBufferGraphics;
+        Graphics frameSprites = spriteGraphics;
+        SoftwareRenderer frameRenderer = softwareRenderer;
+        backBufferGraphics = layerGraphics;
+        spriteGraphics = layerSprites;
+        softwareRenderer = null;
+        try {
+            painter.run();
+        } finally {
+            backBufferGraphics = frameGraphics;
+            spriteGraphics = frameSprites;
+            softwareRenderer = frameRenderer;
+            layerGraphics.dispose();
+            layerSprites.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Draws the current image of a cached layer into the frame.
+     */
+    private void compositeLayer(final CachedLayer layer) {
+        int scale = pixelScale;
+        int originX = Math.floorDiv(layer.getPositionX(), scale);
+        int originY = Math.floorDiv(layer.getPositionY(), scale);
+        if (softwareRenderer != null)
+            softwareRenderer.drawImage(layer.getImage(), originX * scale,
+                    originY * scale);
+        else
+            spriteGraphics.drawImage(layer.getImage(), originX, originY, null);
+    }
+
+    /**
+     * Creates a transparent image for a cached layer.
+     *
+     * @param width
+     *               Width of the image.
+     * @param height
+     *               Height of the image.
+     * @return New image.
+     */
+    private static BufferedImage createLayerImage(final int width,
+                                                  final int height) {
+        // The software renderer reads non-premultiplied ARGB pixels.
+        if (softwareRenderer != null || frame == null)
+            return new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+        return frame.getGraphicsConfiguration().createCompatibleImage(width,
+                height, Transparency.TRANSLUCENT);
     }
 
     /**
@@ -243,203 +787,320 @@ public final class DrawManager {
      */
     public void drawEntity(final Entity entity, final int positionX,
                            final int positionY) {
-        boolean[][] image = spriteMap.get(entity.getSpriteType());
-
-        // 2P mode: start with the entity's own color
-        Color color = entity.getColor();
-
-        // Color-code by player when applicable
-        if (entity instanceof Ship) {
-            Ship ship = (Ship) entity;
-            int pid = ship.getPlayerId(); // requires Ship.getPlayerId()
-            if (pid == 1)
-                color = Color.BLUE; // P1 ship
-            else if (pid == 2)
-                color = Color.RED; // P2 ship
-
-            // else leave default (e.g., green) for legacy/unknown
-        } else if (entity instanceof Bullet) {
-            Bullet bullet = (Bullet) entity;
-            int pid = bullet.getPlayerId(); // requires Bullet.getPlayerId()
-            if (pid == 1)
-                color = Color.CYAN; // P1 bullet
-            else if (pid == 2)
-                color = Color.MAGENTA; // P2 bullet
-            // enemy bullets will keep their default color from the entity
-        }
+        SpriteType spriteType = entity.getSpriteType();
+        drawSprite(spriteType, spriteMap.get(spriteType),
+                entity.getColor().getRGB(), entity.getWidth(),
+                entity.getHeight(), positionX, positionY);
+    }
 
-        /**
-         * Makes A-type enemies semi-transparent when their health is 1.
-         * Checks if the entity is an EnemyShip of type A (EnemyShipA1 or A2),
-         * and sets its color alpha to 32 to indicate critical damage.
-         */
-        if (entity instanceof entity.EnemyShip) {
-            entity.EnemyShip enemy = (entity.EnemyShip) entity;
-            if ((enemy.getSpriteType() == SpriteType.EnemyShipA1
-                    || enemy.getSpriteType() == SpriteType.EnemyShipA2)
-                    && enemy.getHealth() == 1) {
-                color = new Color(color.getRed(), color.getGreen(), color.getBlue(), 32);
-            }
-        }
+    /**
+     * Draws every entity and bullet in a world.
+     *
+     * @param world
+     *                      World holding the entities.
+     * @param interpolation
+     *                      Fraction of an update elapsed since the last one.
+     */
+    public void drawWorld(final World world, final float interpolation) {
+        world.render(this.worldRenderer, interpolation);
+        drawBullets(world.getBullets(), interpolation);
+    }
 
-        // --- Scaling logic ---
-        // Original sprite dimensions
-        int spriteWidth = image.length;
-        int spriteHeight = image[0].length;
-
-        // Entity dimensions (modified via Bullet constructor or other entities)
-        int entityWidth = entity.getWidth();
-        int entityHeight = entity.getHeight();
-
-        // Calculate scaling ratios compared to original sprite
-        float widthRatio = (float) entityWidth / (spriteWidth * 2);
-        float heightRatio = (float) entityHeight / (spriteHeight * 2);
-        // --- End of scaling logic ---
-
-        // Set drawing color again
-        backBufferGraphics.setColor(color);
-        // Draw the sprite with scaling applied
-        for (int i = 0; i < spriteWidth; i++) {
-            for (int j = 0; j < spriteHeight; j++) {
-                if (image[i][j]) {
-                    // Apply calculated scaling ratio to pixel positions and size
-                    backBufferGraphics.fillRect(
-                            positionX + (int)(i * 2 * widthRatio),
-                            positionY + (int)(j * 2 * heightRatio),
-                            (int)Math.ceil(widthRatio * 2), // Adjust the width of the pixel
-                            (int)Math.ceil(heightRatio * 2) // Adjust the height of the pixel
-                    );
-                }
-            }
+    /**
+     * Draws a sprite of an entity in a world, in its color.
+     */
+    private void drawWorldSprite(final SpriteType spriteType,
+                                 final Color color, final int width,
+                                 final int height, final int positionX,
+                                 final int positionY) {
+        drawSprite(spriteType, spriteMap.get(spriteType), color.getRGB(),
+                width, height, positionX, positionY);
+    }
+
+    /**
+     * Draws every bullet on screen.
+     *
+     * @param bullets
+     *                      Bullets to be drawn.
+     * @param interpolation
+     *                      Fraction of an update elapsed since the last one.
+     */
+    public void drawBullets(final BulletSystem bullets,
+                            final float interpolation) {
+        int argb = Color.WHITE.getRGB();
+        for (int i = 0; i < bullets.getCount(); i++) {
+            SpriteType spriteType = bullets.getSpriteType(i);
+            drawSprite(spriteType, spriteMap.get(spriteType), argb,
+                    bullets.getWidth(i), bullets.getHeight(i),
+                    bullets.getRenderPositionX(i, interpolation),
+                    bullets.getRenderPositionY(i, interpolation));
         }
     }
 
+    /**
+     * Draws a sprite pre-rasterized at a size and color, in pixels of the
+     * buffer being drawn.
+     */
+    private void drawSprite(final SpriteType spriteType,
+                            final boolean[][] image, final int argb,
+                            final int width, final int height,
+                            final int positionX, final int positionY) {
+        BufferedImage sprite = spriteCache.get(spriteType, image, argb,
+                width / pixelScale, height / pixelScale);
+        if (softwareRenderer != null)
+            softwareRenderer.drawImage(sprite, positionX, positionY);
+        else
+            spriteGraphics.drawImage(sprite,
+                    Math.floorDiv(positionX, pixelScale),
+                    Math.floorDiv(positionY, pixelScale), null);
+    }
 
+
+    /**
+     * Sets the color and speed of the main menu stars for the highlighted
+     * item, damaging the whole screen when the color changes.
+     *
+     * @param state
+     *               Index of the highlighted menu item.
+     */
     public void menuHover(final int state){
+        Color color = menuSpace.getColor();
         menuSpace.setColor(state);
         menuSpace.setSpeed(state == 4);
+        if (menuSpace.getColor() != color)
+            damageAll();
     }
 
     public void triggerExplosion(int x, int y, boolean enemy, boolean finalExplosion) {
         logger.info("Enemy: "+enemy);
         logger.info("final: "+finalExplosion);
-        explosions.add(new Explosion(x, y, enemy, finalExplosion));
+        particles.spawnExplosion(x, y, enemy, finalExplosion);
     }
 
-    public void drawExplosions(){
-
-        Graphics2D g2d = (Graphics2D) backBufferGraphics;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        g2d.setColor(Color.WHITE);
-
-
-        Iterator<Explosion> iterator = explosions.iterator();
-
-        while(iterator.hasNext()){
-            Explosion e = iterator.next();
-            e.update();
-
-            if (!e.isActive()) {
-                iterator.remove();
-                continue;
-            }
-
-            for(Explosion.Particle p : e.getParticles()){
-                if(!p.active){
-                    continue;
-                }
-
-                int baseSize;
-
-                Random random = new Random();
-                if (e.getSize() == 4)
-                    baseSize = random.nextInt(5) + 2;
-                else
-                    baseSize = random.nextInt(6)+18;
+    /**
+     * Advances the explosions by one update, dropping finished particles.
+     */
+    public void updateExplosions(){
+        particles.update();
+    }
 
-                int flickerAlpha = Math.max(0, Math.min(255, p.color.getAlpha() - (int)(Math.random() * 50)));
+    /**
+     * Removes every explosion, such as when a new game screen starts.
+     */
+    public void clearExplosions(){
+        particles.clear();
+    }
 
+    /**
+     * @return Usage counters of the explosion particle slots.
+     */
+    public PoolStats getExplosionStats(){
+        return particles.getStats();
+    }
 
-                float[] dist = {0.0f, 0.3f, 0.7f, 1.0f};
-                Color[] colors;
-                if(e.enemy()){
-                    colors = new Color[]{
-                            new Color(255, 255, 250, flickerAlpha),
-                            new Color(255, 250, 180, flickerAlpha),
-                            new Color(255, 200, 220, flickerAlpha / 2),
-                            new Color(0, 0, 0, 0)
-                    };
-                }
-                else{
-                    colors = new Color[]{
-                            new Color(255, 255, 180, flickerAlpha),
-                            new Color(255, 200, 0, flickerAlpha),
-                            new Color(255, 80, 0, flickerAlpha / 2),
-                            new Color(0, 0, 0, 0)
-                    };
-                }
+    /**
+     * Returns the lit pixels of a sprite at an entity's size, packing them
+     * the first time that size is asked for.
+     *
+     * @param spriteType
+     *                  Type of the sprite.
+     * @param width
+     *                  Width of the entity the sprite is drawn for.
+     * @param height
+     *                  Height of the entity the sprite is drawn for.
+     * @return Collision mask of the sprite.
+     */
+    public CollisionMask getCollisionMask(final SpriteType spriteType,
+                                          final int width, final int height) {
+        CollisionMask[] masks = collisionMasks[spriteType.ordinal()];
+        for (CollisionMask mask : masks)
+            if (mask.getWidth() == width && mask.getHeight() == height)
+                return mask;
+        CollisionMask mask = new CollisionMask(spriteMap.get(spriteType),
+                width, height);
+        masks = Arrays.copyOf(masks, masks.length + 1);
+        masks[masks.length - 1] = mask;
+        collisionMasks[spriteType.ordinal()] = masks;
+        return mask;
+    }
 
-                RadialGradientPaint paint = new RadialGradientPaint(
-                        new Point((int) p.x, (int) p.y),
-                        baseSize,
-                        dist,
-                        colors
-                );
+    public void drawExplosions(){
+        ParticleStamps stamps = pixelScale == 1
+                ? particleStamps : nativeParticleStamps;
 
-                g2d.setPaint(paint);
+        for (int i = 0; i < particles.getCount(); i++) {
+            int baseSize;
 
-                int offsetX = (int) (Math.random() * 4 - 2);
-                int offsetY = (int) (Math.random() * 4 - 2);
+            if (particles.isLarge(i))
+                baseSize = particleRandom.nextInt(6)+18;
+            else
+                baseSize = particleRandom.nextInt(5) + 2;
 
-                g2d.fillOval(
-                        (int) (p.x - baseSize / 2 + offsetX),
-                        (int) (p.y - baseSize / 2 + offsetY),
-                        baseSize,
-                        baseSize
-                );
-            }
+            int flickerAlpha = Math.max(0, particles.getAlpha(i) - particleRandom.nextInt(50));
+            BufferedImage stamp = stamps.get(particles.isEnemy(i), baseSize, flickerAlpha);
+            if (stamp == null)
+                continue;
 
+            int offsetX = particleRandom.nextInt(4) - 2;
+            int offsetY = particleRandom.nextInt(4) - 2;
+            int positionX = (int) (particles.getX(i) - baseSize / 2 + offsetX);
+            int positionY = (int) (particles.getY(i) - baseSize / 2 + offsetY);
+
+            if (softwareRenderer != null)
+                softwareRenderer.drawImage(stamp, positionX, positionY);
+            else
+                spriteGraphics.drawImage(stamp,
+                        Math.floorDiv(positionX, pixelScale),
+                        Math.floorDiv(positionY, pixelScale), null);
         }
     }
 
 
 
     /**
-     * Draws the main menu stars background animation
+     * Advances the main menu stars background animation by one update.
+     * The stars are drawn again by drawMainMenu where they moved, without
+     * damaging the screen.
      */
     public void updateMenuSpace(){
         menuSpace.updateStars();
+    }
 
-        Graphics2D g2d = (Graphics2D) backBufferGraphics;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        backBufferGraphics.setColor(Color.WHITE);
-        int[][] positions = menuSpace.getStarLocations();
-
-        for(int i = 0; i < menuSpace.getNumStars(); i++){
-
-            int size = 1;
-            int radius = size * 2;
-
-            float[] dist = {0.0f, 1.0f};
-            Color[] colors = {
-                    menuSpace.getColor(),
-                    new Color(255, 255, 200, 0)
-            };
-
-            RadialGradientPaint paint = new RadialGradientPaint(
-                    new Point(positions[i][0], positions[i][1]),
-                    radius,
-                    dist,
-                    colors
-            );
-            g2d.setPaint(paint);
-            g2d.fillOval(positions[i][0] - radius / 2, positions[i][1] - radius / 2, radius, radius);
+    /**
+     * Draws the main menu for screens that track damage: the stars, under a
+     * cached layer with the title and the menu. Each moving star has the
+     * areas it left and entered drawn again on their own, so the moving
+     * stars cost a few small copies instead of the whole screen.
+     *
+     * The layer is only composited over damaged regions and stars, so the
+     * caller damages the parts of it whose drawing changes.
+     *
+     * @param screen
+     *               Screen to draw in.
+     * @param layer
+     *               Layer with the title and the menu.
+     * @param inputs
+     *               Numbers the layer is drawn from.
+     * @param painter
+     *               Draws the layer with the usual DrawManager methods.
+     * @return False if nothing changed, and the frame should be skipped.
+     */
+    public boolean drawMainMenu(final Screen screen, final CachedLayer layer,
+                                final int[] inputs, final Runnable painter) {
+        int[][] stars = menuSpace.getStarLocations();
+        int count = menuSpace.getNumStars();
+        if (screen != damagedScreen || drawnMenuStarY == null
+                || drawnMenuStarY.length != count)
+            fullyDamaged = true;
+        boolean full = fullyDamaged;
+        fullyDamaged = false;
+        boolean starsMoved = false;
+        for (int i = 0; i < count && !full && !starsMoved; i++)
+            starsMoved = stars[i][1] != drawnMenuStarY[i];
+        if (!full && !starsMoved && damagedRegionCount == 0)
+            return false;
+
+        beginDamagedFrame(screen);
+        if (!layer.isCurrent(inputs, pixelScale))
+            layer.update(paintLayer(layer, painter), inputs, pixelScale);
+        if (menuStarStamp == null || menuStarColor != menuSpace.getColor()) {
+            menuStarColor = menuSpace.getColor();
+            menuStarStamp = createMenuStarStamp(menuStarColor);
+        }
 
+        if (full) {
+            drawnMenuStarY = new int[count];
+            repaintMainMenu(layer, 0, 0, screen.getWidth(), screen.getHeight());
+        } else {
+            for (int i = 0; i < damagedRegionCount; i++) {
+                Rectangle region = damagedRegions[i];
+                repaintMainMenu(layer, region.x, region.y, region.width,
+                        region.height);
+            }
+            int half = MENU_STAR_SIZE / 2;
+            for (int i = 0; i < count; i++) {
+                int fromY = drawnMenuStarY[i] - half;
+                int toY = stars[i][1] - half;
+                int x = stars[i][0] - half;
+                if (fromY == toY)
+                    continue;
+                // A short move is one area, a wrap to the top is two.
+                if (Math.abs(toY - fromY) < MENU_STAR_SIZE) {
+                    repaintMainMenu(layer, x, Math.min(fromY, toY),
+                            MENU_STAR_SIZE,
+                            Math.abs(toY - fromY) + MENU_STAR_SIZE);
+                } else {
+                    repaintMainMenu(layer, x, fromY, MENU_STAR_SIZE,
+                            MENU_STAR_SIZE);
+                    repaintMainMenu(layer, x, toY, MENU_STAR_SIZE,
+                            MENU_STAR_SIZE);
+                }
+            }
+        }
+        for (int i = 0; i < count; i++)
+            drawnMenuStarY[i] = stars[i][1];
+        damagedRegionCount = 0;
+        // A clip of every star area costs more to show through than the
+        // whole back buffer.
+        damageClipped = false;
+        return true;
+    }
 
-            backBufferGraphics.fillOval(positions[i][0], positions[i][1], size, size);
+    /**
+     * Draws an area of the main menu again: cleared, with the stars that
+     * reach into it and the layer with the title and the menu on top. The
+     * area is drawn whole, so it may overlap areas drawn before it.
+     *
+     * @param layer
+     *               Layer with the title and the menu.
+     * @param positionX
+     *               Left side of the area.
+     * @param positionY
+     *               Upper side of the area.
+     * @param width
+     *               Width of the area.
+     * @param height
+     *               Height of the area.
+     */
+    private void repaintMainMenu(final CachedLayer layer, final int positionX,
+                                 final int positionY, final int width,
+                                 final int height) {
+        backBufferGraphics.setClip(positionX, positionY, width, height);
+        backBufferGraphics.setColor(Color.BLACK);
+        backBufferGraphics.fillRect(positionX, positionY, width, height);
+
+        int[][] stars = menuSpace.getStarLocations();
+        int half = MENU_STAR_SIZE / 2;
+        for (int i = 0; i < menuSpace.getNumStars(); i++) {
+            int x = stars[i][0] - half;
+            int y = stars[i][1] - half;
+            if (x < positionX + width && x + MENU_STAR_SIZE > positionX
+                    && y < positionY + height && y + MENU_STAR_SIZE > positionY)
+                backBufferGraphics.drawImage(menuStarStamp, x, y, null);
         }
+        compositeLayer(layer);
+    }
+
+    /**
+     * Renders a main menu star and its glow, centered in the stamp.
+     *
+     * @param color
+     *               Color of the star.
+     * @return New stamp.
+     */
+    private static BufferedImage createMenuStarStamp(final Color color) {
+        BufferedImage stamp = createLayerImage(MENU_STAR_SIZE, MENU_STAR_SIZE);
+        Graphics2D graphics = stamp.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        int center = MENU_STAR_SIZE / 2;
+        graphics.setPaint(new RadialGradientPaint(new Point(center, center),
+                center, new float[] { 0.0f, 1.0f },
+                new Color[] { color, new Color(255, 255, 200, 0) }));
+        graphics.fillOval(center - 1, center - 1, 2, 2);
+        graphics.fillOval(center, center, 1, 1);
+        graphics.dispose();
+        return stamp;
     }
 
     public void setLastLife(boolean status){
@@ -455,36 +1116,51 @@ public final class DrawManager {
 
 
     /**
-     * Draws the stars background animation during the game
+     * Advances the stars background animation by one update.
      */
     public void updateGameSpace(){
         basicGameSpace.update();
+    }
+
+    /**
+     * Draws the stars background animation during the game
+     */
+    public void drawGameSpace(){
+        if (softwareRenderer != null) {
+            int[] colors = basicGameSpace.isLastLife()
+                    ? LAST_LIFE_STAR_COLORS : STAR_COLORS;
+            int[][] positions = basicGameSpace.getStarLocations();
+            for (int i = 0; i < basicGameSpace.getNumStars(); i++) {
+                int size = (positions[i][2] < 2) ? 2 : 1;
+                int radius = size * 2;
+                float centerX = positions[i][0] + size / 2;
+                float centerY = positions[i][1] + size / 2;
+                softwareRenderer.fillGradientOval(centerX, centerY, radius,
+                        STAR_FRACTIONS, colors, positions[i][0] - radius / 2,
+                        positions[i][1] - radius / 2, radius);
+                softwareRenderer.fillGradientOval(centerX, centerY, radius,
+                        STAR_FRACTIONS, colors, positions[i][0],
+                        positions[i][1], size);
+            }
+            return;
+        }
 
         Graphics2D g2d = (Graphics2D) backBufferGraphics;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         backBufferGraphics.setColor(Color.WHITE);
+        Color[] colors = basicGameSpace.isLastLife()
+                ? LAST_LIFE_STAR_GRADIENT : STAR_GRADIENT;
         int[][] positions = basicGameSpace.getStarLocations();
         for(int i = 0; i < basicGameSpace.getNumStars(); i++){
 
             int size = (positions[i][2] < 2) ? 2 : 1;
             int radius = size * 2;
 
-            float[] dist = {0.0f, 1.0f};
-            Color[] colors = new Color[2];
-            if(basicGameSpace.isLastLife()){
-                colors[0] = new Color(255, 0, 0, 100);
-                colors[1] = new Color(255, 0, 0, 50);
-            }
-            else{
-                colors[0] = new Color(255, 255, 200, 50);
-                colors[1] = new Color(255, 255, 200, 50);
-            }
-
             RadialGradientPaint paint = new RadialGradientPaint(
                     new Point(positions[i][0] + size / 2, positions[i][1] + size / 2),
                     radius,
-                    dist,
+                    STAR_FRACTIONS,
                     colors
             );
             g2d.setPaint(paint);
@@ -553,26 +1229,22 @@ public final class DrawManager {
         backBufferGraphics.setFont(fontRegular);
         backBufferGraphics.setColor(Color.WHITE);
 
-        Entity heart = new Entity(0, 0, 11*2, 10*2, Color.RED) {
-            { this.spriteType = SpriteType.Heart; }
-        };
-
         if (isCoop) {
             backBufferGraphics.drawString(Integer.toString(lives), 20, 25);
             for (int i = 0; i < lives; i++) {
                 if (i < 3) {
 
-                    drawEntity(heart, 40 + 35 * i, 9);
+                    drawEntity(heartIcon, 40 + 35 * i, 9);
                 } else {
 
-                    drawEntity(heart, 40 + 35 * (i - 3), 9 + 25);
+                    drawEntity(heartIcon, 40 + 35 * (i - 3), 9 + 25);
                 }
             }
         }
         else {
             backBufferGraphics.drawString(Integer.toString(lives), 20, 40);
             for (int i = 0; i<lives; i++) {
-                drawEntity(heart, 40 + 35 * i, 23);
+                drawEntity(heartIcon, 40 + 35 * i, 23);
             }
         }
 
@@ -611,6 +1283,11 @@ public final class DrawManager {
      *                  Y coordinate of the line.
      */
     public void drawHorizontalLine(final Screen screen, final int positionY) {
+        if (softwareRenderer != null) {
+            softwareRenderer.fillRect(0, positionY, screen.getWidth() + 1, 2,
+                    Color.GREEN.getRGB());
+            return;
+        }
         backBufferGraphics.setColor(Color.GREEN);
         backBufferGraphics.drawLine(0, positionY, screen.getWidth(), positionY);
         backBufferGraphics.drawLine(0, positionY + 1, screen.getWidth(),
@@ -626,6 +1303,18 @@ public final class DrawManager {
      * @param lineWidth  Visual thickness in pixels (typically 2).
      */
     public void drawCoopDivider(final Screen screen, final int dividerX, final int startY, final int lineWidth) {
+        if (softwareRenderer != null) {
+            int playfieldHeight = screen.getHeight() - startY;
+            softwareRenderer.fillRect(0, startY, dividerX, playfieldHeight,
+                    COOP_TINT_ALPHA << 24 | 0x4080FF);
+            softwareRenderer.fillRect(dividerX, startY,
+                    screen.getWidth() - dividerX, playfieldHeight,
+                    COOP_TINT_ALPHA << 24 | 0xDC4848);
+            int half = Math.max(0, lineWidth / 2);
+            softwareRenderer.fillRect(dividerX - half, startY, lineWidth,
+                    playfieldHeight + 1, Color.WHITE.getRGB());
+            return;
+        }
         if (!(backBufferGraphics instanceof Graphics2D)) {
             backBufferGraphics.setColor(Color.WHITE);
             int half = Math.max(0, lineWidth / 2);
@@ -668,12 +1357,9 @@ public final class DrawManager {
 
     public void drawShipCount (final Screen screen, final int shipCount) {
         backBufferGraphics.setColor(Color.GREEN);
-        Entity enemyIcon = new Entity(0, 0, 12*2, 8*2, Color.GREEN) {
-            { this.spriteType = SpriteType.EnemyShipB2; }
-        };
         int iconX = screen.getWidth() - 252;
         int iconY = 37;
-        drawEntity(enemyIcon, iconX, iconY);
+        drawEntity(shipCountIcon, iconX, iconY);
         String shipString = ": " + shipCount;
         backBufferGraphics.drawString(shipString, iconX + 30, 52);
     }
@@ -689,6 +1375,10 @@ public final class DrawManager {
         String titleString = "Invaders";
         String instructionsString = "select with w+s / arrows, confirm with space";
 
+        // Smooth like the stars the title used to be drawn right after.
+        ((Graphics2D) backBufferGraphics).setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
         backBufferGraphics.setColor(Color.GRAY);
         drawCenteredRegularString(screen, instructionsString,
                 screen.getHeight() / 2);
@@ -748,6 +1438,21 @@ public final class DrawManager {
          * 2 + spacing * 3); */
     }
 
+    /**
+     * Marks an item of the main menu as changed, such as when it is
+     * highlighted.
+     *
+     * @param screen
+     *               Screen the menu is drawn on.
+     * @param index
+     *               Index of the item.
+     */
+    public void damageMenuItem(final Screen screen, final int index) {
+        int baseY = screen.getHeight() / 3 * 2 - 20;
+        int spacing = (int) (fontRegularMetrics.getHeight() * 1.5);
+        damageRegularLine(screen, baseY + spacing * index);
+    }
+
 	/**
 	 * Draws game results.
 	 *
@@ -833,6 +1538,28 @@ public final class DrawManager {
 
 	}
 
+	/**
+	 * Marks the name input line as changed, such as when the cursor blinks.
+	 *
+	 * @param screen
+	 *                         Screen the name is drawn on.
+	 */
+	public void damageNameInput(final Screen screen) {
+		damageRegularLine(screen,
+				screen.getHeight() / 4 + fontRegularMetrics.getHeight() * 12);
+	}
+
+	/**
+	 * Marks the name input error line as changed.
+	 *
+	 * @param screen
+	 *                         Screen the error is drawn on.
+	 */
+	public void damageNameInputError(final Screen screen) {
+		damageRegularLine(screen,
+				screen.getHeight() / 4 + fontRegularMetrics.getHeight() * 13);
+	}
+
 	public void drawNameInputError(Screen screen) {
 		String alert = "Enter at least 3 chars!" ; // "Name too short!"
 
@@ -866,6 +1593,18 @@ public final class DrawManager {
         drawCenteredRegularString(screen, continueOrExitString,
                 screen.getHeight() / 2 + fontRegularMetrics.getHeight() * 10);
     }
+
+    /**
+     * Marks the instructions of the game over screen as changed, such as
+     * when it starts accepting input.
+     *
+     * @param screen
+     *                     Screen the instructions are drawn on.
+     */
+    public void damageGameOverInstructions(final Screen screen) {
+        damageRegularLine(screen,
+                screen.getHeight() / 2 + fontRegularMetrics.getHeight() * 10);
+    }
     public void drawPauseOverlay(final Screen screen){
         backBufferGraphics.setColor(new Color(0,0,0,200));
         backBufferGraphics.fillRect(0, 0, screen.getWidth(), screen.getHeight());
@@ -896,6 +1635,10 @@ public final class DrawManager {
         backBufferGraphics.setColor(Color.GREEN);
         drawCenteredBigString(screen, highScoreString, screen.getHeight() / 8);
 
+        // Smooth like the stars the title used to be drawn right after.
+        ((Graphics2D) backBufferGraphics).setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
         backBufferGraphics.setColor(Color.GRAY);
         drawCenteredRegularString(screen, instructionsString,
                 screen.getHeight() / 5);
@@ -966,6 +1709,10 @@ public final class DrawManager {
         drawCenteredRegularString(screen, descriptionString, screen.getHeight() / 5);
         backBufferGraphics.setColor(Color.GREEN);
         drawCenteredRegularString(screen, playerModeString, (int) (screen.getHeight() / 4));
+        // Smooth like the stars the title used to be drawn right after.
+        ((Graphics2D) backBufferGraphics).setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
         backBufferGraphics.setColor(Color.GRAY);
         drawCenteredRegularString(screen, instructionsString, (int) (screen.getHeight() * 0.9));
 
@@ -1034,6 +1781,10 @@ public final class DrawManager {
         backBufferGraphics.setColor(Color.GREEN);
         drawCenteredBigString(screen, settingsString, screen.getHeight() / 8);
         backBufferGraphics.setFont(fontRegular);
+        // Smooth like the stars the title used to be drawn right after.
+        ((Graphics2D) backBufferGraphics).setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
         backBufferGraphics.setColor(Color.GRAY);
         drawCenteredRegularString(screen, instructionsString, screen.getHeight() / 6);
     }
@@ -1072,6 +1823,19 @@ public final class DrawManager {
 
     }
 
+    /**
+     * Marks the key settings panel as changed.
+     *
+     * @param screen
+     *               Screen the panel is drawn on.
+     */
+    public void damageKeysettings(final Screen screen) {
+        int panelWidth = 220;
+        int panelHeight = 180;
+        damage(screen.getWidth() - panelWidth - 50, screen.getHeight() / 4,
+                panelWidth, panelHeight);
+    }
+
     /**
      * Draws a centered string on regular font.
      *
@@ -1168,20 +1932,18 @@ public final class DrawManager {
 
 
 	/**
-	 * Draws achievement toasts.
+	 * Draws an achievement toast.
 	 *
 	 * @param screen
 	 * Screen to draw on.
-	 * @param toasts
-	 * List of toasts to draw.
+	 * @param achievement
+	 * Achievement of the toast, nothing is drawn if null.
 	 */
-	public void drawAchievementToasts(final Screen screen, final List<Achievement> toasts) {
-		if (toasts == null || toasts.isEmpty()) {
+	public void drawAchievementToast(final Screen screen, final Achievement achievement) {
+		if (achievement == null) {
 			return;
 		}
 
-		Achievement achievement = toasts.get(toasts.size() - 1);
-
 		Graphics2D g2d = (Graphics2D) backBufferGraphics.create();
 
 		try {
@@ -1373,7 +2135,6 @@ public final class DrawManager {
     the pixel area occupied by the string is calculated as Rectangle and returned
      */
     private Rectangle centeredStringBounds(final Screen screen, final String string, final int baselineY) {
-        backBufferGraphics.setFont(fontRegular);
         final int pad = 4;
 
         int textWidth = fontRegularMetrics.stringWidth(string);
@@ -1407,16 +2168,7 @@ public final class DrawManager {
         int indicatorX = centerX - size / 2 - 3;
         int indicatorY = barHeight - size / 2 ;
 
-        int rawX = Core.getInputManager().getMouseX();
-        int rawY = Core.getInputManager().getMouseY();
-        Insets insets = frame.getInsets();
-        int mouseX = rawX - insets.left;
-        int mouseY = rawY - insets.top;
-
-        boolean hoverIndicator = mouseX >= indicatorX && mouseX <= indicatorX + size &&
-                mouseY >= indicatorY && mouseY <= indicatorY + size;
-
-        if (hoverIndicator || dragging) {
+        if (isVolumeIndicatorHovered(screen, volumlevel) || dragging) {
             backBufferGraphics.setColor(Color.GREEN);
         } else {
             backBufferGraphics.setColor(Color.WHITE);
@@ -1430,6 +2182,48 @@ public final class DrawManager {
 
     }
 
+    /**
+     * Checks if the mouse is over the indicator of the volume bar.
+     *
+     * @param screen
+     *               Screen the volume bar is drawn on.
+     * @param volumlevel
+     *               Volume the indicator shows.
+     * @return True if the indicator is hovered.
+     */
+    public boolean isVolumeIndicatorHovered(final Screen screen, final int volumlevel) {
+        int bar_startWidth = screen.getWidth() / 2;
+        int bar_endWidth = screen.getWidth()-40;
+        int barHeight = screen.getHeight()*3/10;
+        int size = 14;
+        double ratio = volumlevel / 100.0;
+        int centerX = bar_startWidth + (int) ((bar_endWidth - bar_startWidth) * ratio);
+        int indicatorX = centerX - size / 2 - 3;
+        int indicatorY = barHeight - size / 2 ;
+
+        int rawX = Core.getInputManager().getMouseX();
+        int rawY = Core.getInputManager().getMouseY();
+        // Headless, as in MenuBenchmark, there is no border to leave out.
+        Insets insets = frame != null ? frame.getInsets() : new Insets(0, 0, 0, 0);
+        int mouseX = rawX - insets.left;
+        int mouseY = rawY - insets.top;
+
+        return mouseX >= indicatorX && mouseX <= indicatorX + size &&
+                mouseY >= indicatorY && mouseY <= indicatorY + size;
+    }
+
+    /**
+     * Marks the volume bar, its label and value as changed.
+     *
+     * @param screen
+     *               Screen the volume bar is drawn on.
+     */
+    public void damageVolumeBar(final Screen screen) {
+        int barHeight = screen.getHeight()*3/10;
+        damage(0, barHeight - fontRegularMetrics.getHeight(),
+                screen.getWidth(), fontRegularMetrics.getHeight() * 2);
+    }
+
     public void drawSettingLayout(final Screen screen, final String[] menuItems, final int selectedmenuItems) {
         int splitPointX = screen.getWidth() *3/10;
         backBufferGraphics.setFont(fontRegular);
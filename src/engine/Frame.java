@@ -1,5 +1,6 @@
 package engine;
 
+import java.awt.Graphics;
 import java.awt.Insets;
 
 import javax.swing.JFrame;
@@ -81,4 +82,17 @@ public class Frame extends JFrame {
 	public final int getHeight() {
 		return this.height;
 	}
+
+	/**
+	 * Paints the frame when the system asks for it, such as after being
+	 * uncovered, and has the next frame drawn in full.
+	 * 
+	 * @param graphics
+	 *            Graphics of the frame.
+	 */
+	@Override
+	public void paint(final Graphics graphics) {
+		super.paint(graphics);
+		Core.getDrawManager().damageAll();
+	}
 }
\ No newline at end of file
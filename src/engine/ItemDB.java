@@ -10,19 +10,53 @@ import java.util.logging.Logger;
  *
  * Supports both legacy CSV format (5 columns) and new format with cost (6 columns):
  * type,spriteType,dropTier,effectValue,effectDuration[,cost]
+ *
+ * The file is read once, into a registry shared by every item. It does not
+ * change afterwards, so drops and pickups never touch the disk.
  */
-public class ItemDB {
+public final class ItemDB {
     /** Path to the item database CSV file. */
     private static final String FILE_PATH = "res/item_db.csv";
+
+    /** Singleton instance of the class. */
+    private static ItemDB instance;
+
     /** Map of item type name to its corresponding ItemData. */
-    private final Map<String, ItemData> itemMap = new HashMap<>();
+    private final Map<String, ItemData> itemMap;
+    /** Items of each drop tier, as rolled by ItemManager. */
+    private final Map<ItemManager.DropTier, ItemData[]> tierMap;
 
     /**
      * Constructor.
      * Automatically loads the CSV file into memory.
      */
-    public ItemDB() {
-        loadItemDB();
+    private ItemDB() {
+        Map<String, ItemData> items = new LinkedHashMap<>();
+        loadItemDB(items);
+        this.itemMap = Collections.unmodifiableMap(items);
+
+        Map<ItemManager.DropTier, ItemData[]> tiers =
+                new EnumMap<>(ItemManager.DropTier.class);
+        for (ItemManager.DropTier tier : ItemManager.DropTier.values()) {
+            List<ItemData> candidates = new ArrayList<>();
+            for (ItemData data : items.values())
+                if (data.getDropTier().equalsIgnoreCase(tier.name()))
+                    candidates.add(data);
+            tiers.put(tier, candidates.toArray(new ItemData[0]));
+        }
+        this.tierMap = tiers;
+    }
+
+    /**
+     * Returns the shared instance of ItemDB, loading the CSV file the first
+     * time.
+     *
+     * @return Shared instance of ItemDB.
+     */
+    public static ItemDB getInstance() {
+        if (instance == null)
+            instance = new ItemDB();
+        return instance;
     }
 
     /**
@@ -31,7 +65,7 @@ public class ItemDB {
      * type, spriteType, dropTier, effectValue, effectDuration, cost
      *
      */
-    private void loadItemDB() {
+    private static void loadItemDB(final Map<String, ItemData> itemMap) {
         Logger logger = Core.getLogger();
 
         try (BufferedReader br = new BufferedReader(new FileReader(FILE_PATH))) {
@@ -86,6 +120,8 @@ public class ItemDB {
                 }
 
                 ItemData data = new ItemData(type, spriteType, dropTier, effectValue, effectDuration, cost);
+                if (!data.getSprite().name().equals(spriteType))
+                    logger.warning("[ItemDB] Unknown sprite type for " + type + " -> '" + spriteType + "'. Using " + data.getSprite() + ".");
                 itemMap.put(type, data);
             }
         } catch (FileNotFoundException e) {
@@ -116,4 +152,15 @@ public class ItemDB {
     public Collection<ItemData> getAllItems() {
         return itemMap.values();
     }
+
+    /**
+     * Return the items that can drop for a given tier.
+     *
+     * @param tier
+     *            drop tier rolled.
+     * @return Items of the tier, shared and not to be modified.
+     */
+    public ItemData[] getItemsByTier(final ItemManager.DropTier tier) {
+        return tierMap.get(tier);
+    }
 }
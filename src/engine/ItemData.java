@@ -1,26 +1,32 @@
 package engine;
 
+import engine.DrawManager.SpriteType;
+
 /**
  * Represents the data for an item, including its type, sprite, tier, effect value, and duration.
+ * Immutable, shared by every item of the type.
  */
 public class ItemData {
     /** Unique identifier for the item (e.g. "COIN", "HEAL", "SCORE"). */
-    private String type;
+    private final String type;
 
     /** sprite type (e.g. "ItemScore", "ItemHeal"). */
-    private String spriteType;
+    private final String spriteType;
 
     /** rarity tier (e.g. "COMMON", "UNCOMMON", "RARE"). */
-    private String dropTier;
+    private final String dropTier;
 
     /** numerical value of the item effect (e.g. heal amount, score amount). */
-    private int effectValue;
+    private final int effectValue;
 
     /** duration that the effect remains active. */
-    private int effectDuration;
+    private final int effectDuration;
 
     /** cost in coins required to activate this item on pickup (0 = free). */
-    private int cost;
+    private final int cost;
+
+    /** sprite the item is drawn as, resolved from spriteType. */
+    private final SpriteType sprite;
 
     /**
      * Constructs an ItemData object.
@@ -49,6 +55,8 @@ public class ItemData {
         this.effectDuration = effectDuration;
         // 0 = free
         this.cost = Math.max(0, cost);
+        // Resolved once here rather than on every spawn.
+        this.sprite = resolveSprite(spriteType);
     }
     /**
      * default constructor (no cost) — sets cost to 0.
@@ -93,4 +101,19 @@ public class ItemData {
 
     // Getter for item cost
     public int getCost() { return cost; }
+
+    /**
+     * Getter for the sprite of the item.
+     *
+     * @return sprite, ItemScore if spriteType names none.
+     */
+    public SpriteType getSprite() { return sprite; }
+
+    private static SpriteType resolveSprite(final String spriteType) {
+        try {
+            return SpriteType.valueOf(spriteType);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return SpriteType.ItemScore;
+        }
+    }
 }
@@ -17,7 +17,10 @@ public final class ItemManager {
 
     /** Debug logger init */
     private Logger logger;
-    private ItemManager() { logger = Core.getLogger(); }
+    private ItemManager() {
+        logger = Core.getLogger();
+        buildDropTables();
+    }
 
     public static ItemManager getInstance() {
         if (instance == null)
@@ -31,7 +34,7 @@ public final class ItemManager {
     private int pityCounter = 0;
 
     /** Item database loaded from CSV. */
-    private final ItemDB itemDB = new ItemDB();
+    private final ItemDB itemDB = ItemDB.getInstance();
 
     /** -------------------------- ITEM DATA -------------------------- **/
 
@@ -49,15 +52,62 @@ public final class ItemManager {
 
     /** -------------------------- INIT -------------------------- **/
 
-    /** Total weight of all item tiers except NONE. */
-    private static final double ITEM_WEIGHT;
+    /** Share of the NONE weight removed per drop missed in a row. */
+    private static final double PITY_STEP = 0.05;
+    /** Most of the NONE weight the pity system can remove. */
+    private static final double MAX_PITY_BOOST = 0.5;
+    /** Number of distinct pity boosts, from none to the maximum. */
+    private static final int PITY_LEVELS =
+            (int) Math.round(MAX_PITY_BOOST / PITY_STEP) + 1;
+
+    /**
+     * Outcomes of a drop roll: index 0 is no drop, then every item of every
+     * tier. A tier without items is a single outcome with no item.
+     */
+    private ItemData[] outcomeItems;
+    /** Tier of each outcome. */
+    private DropTier[] outcomeTiers;
+    /** Alias table over the outcomes, for each pity boost. */
+    private AliasTable[] dropTables;
+
+    /**
+     * Builds the alias tables of drop rolls. Within a tier every item is
+     * equally likely, so an item weighs its tier's weight over the number of
+     * items in the tier.
+     */
+    private void buildDropTables() {
+        java.util.List<ItemData> items = new java.util.ArrayList<>();
+        java.util.List<DropTier> tiers = new java.util.ArrayList<>();
+        java.util.List<Double> weights = new java.util.ArrayList<>();
+        items.add(null);
+        tiers.add(DropTier.NONE);
+        weights.add(DropTier.NONE.tierWeight);
+        for (DropTier tier : DropTier.values()) {
+            if (tier == DropTier.NONE) continue;
+            ItemData[] candidates = itemDB.getItemsByTier(tier);
+            if (candidates.length == 0) {
+                items.add(null);
+                tiers.add(tier);
+                weights.add(tier.tierWeight);
+            }
+            for (ItemData data : candidates) {
+                items.add(data);
+                tiers.add(tier);
+                weights.add(tier.tierWeight / candidates.length);
+            }
+        }
 
-    static {
-        double sum = 0.0;
-        for (DropTier t : DropTier.values()) {
-            if (t != DropTier.NONE) sum += t.tierWeight;
+        this.outcomeItems = items.toArray(new ItemData[0]);
+        this.outcomeTiers = tiers.toArray(new DropTier[0]);
+        this.dropTables = new AliasTable[PITY_LEVELS];
+        double[] levelWeights = new double[weights.size()];
+        for (int level = 0; level < PITY_LEVELS; level++) {
+            for (int i = 0; i < levelWeights.length; i++)
+                levelWeights[i] = weights.get(i);
+            // Pity Boost
+            levelWeights[0] *= 1.0 - level * PITY_STEP;
+            this.dropTables[level] = new AliasTable(levelWeights);
         }
-        ITEM_WEIGHT = sum;
     }
 
     /** -------------------------- MAIN -------------------------- **/
@@ -72,55 +122,26 @@ public final class ItemManager {
     public Item obtainDrop(final EnemyShip enemy) {
         if (enemy == null) return null;
 
-        // Pity Boost
-        double pityBoost = Math.min(pityCounter * 0.05, 0.5);
-        double boostedNoneWeight = DropTier.NONE.tierWeight * (1.0 - pityBoost);
-
-        // Roll Item
-        double dropRoll = itemRoll.nextDouble() * (ITEM_WEIGHT + boostedNoneWeight);
-        this.logger.info(String.format("[ItemManager]: DropRoll %.1f", dropRoll));
-
-        DropTier chosenTier = DropTier.NONE;
-        double acc = 0.0;
-
-        for (DropTier tier : DropTier.values()) {
-            double weight = tier.tierWeight;
-
-            if (tier == DropTier.NONE) {
-                weight = boostedNoneWeight;
-            }
-
-            acc += weight;
-
-            if (dropRoll < acc) {
-                chosenTier = tier;
-                break;
-            }
-        }
+        // Roll tier and item at once, on the table of the current pity boost
+        int outcome = dropTables[Math.min(pityCounter, PITY_LEVELS - 1)]
+                .sample(itemRoll);
+        DropTier chosenTier = outcomeTiers[outcome];
 
         // Calculate Pity
         if (chosenTier == DropTier.NONE) {
             pityCounter++;
-            logger.info(String.format("[ItemManager]: Tier=NONE (pity=%d)", pityCounter));
             return null;
         }
 
         pityCounter = 0;
 
-        // Load item list from CSV by DropTier
-        java.util.List<ItemData> candidates = new java.util.ArrayList<>();
-        for (ItemData data : itemDB.getAllItems()) {
-            if (data.getDropTier().equalsIgnoreCase(chosenTier.name()))
-                candidates.add(data);
-        }
+        ItemData chosenData = outcomeItems[outcome];
 
-        if (candidates.isEmpty()) {
+        if (chosenData == null) {
             logger.warning("[ItemManager]: No items defined for tier " + chosenTier);
             return null;
         }
 
-        ItemData chosenData = candidates.get(itemRoll.nextInt(candidates.size()));
-
         // get spawn position / enemy death position
         int centerX = enemy.getPositionX() + enemy.getWidth() / 2;
         int centerY = enemy.getPositionY() + enemy.getHeight() / 2;
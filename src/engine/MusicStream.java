@@ -0,0 +1,217 @@
+package engine;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Background music decoded a chunk at a time on its own thread, instead of
+ * being held in memory whole. Decoded frames wait in a ring buffer that
+ * the audio mixer drains; the track starts over from the beginning as
+ * soon as it ends, with no gap.
+ *
+ * The decoder thread is the only one writing the ring and the mixer's
+ * audio thread the only one reading it, so they only share two counters.
+ * While the ring is full, such as while the music is paused, the decoder
+ * sleeps until the audio thread has read from it.
+ */
+final class MusicStream implements Runnable {
+
+    /** Frames of the source decoded at a time. */
+    private static final int CHUNK_FRAMES = 4096;
+    /** Frames the ring buffer holds, about 370 ms, a power of two. */
+    private static final int RING_FRAMES = 16384;
+
+    /** Application logger. */
+    private static final Logger LOGGER = Core.getLogger();
+
+    /** Resource path of the track. */
+    private final String path;
+    /** Thread decoding the track. */
+    private final Thread decoder;
+    /** Decoded frames, both channels interleaved, left first. */
+    private final short[] ring = new short[RING_FRAMES * 2];
+    /** Frames written to the ring so far, by the decoder thread. */
+    private volatile long written;
+    /** Frames read from the ring so far, by the audio thread. */
+    private volatile long read;
+    /** Linear gain of the music. */
+    private volatile float gain;
+    /** Whether the music is held where it is. */
+    private volatile boolean paused;
+    /** Whether the stream was closed for good. */
+    private volatile boolean closed;
+
+    /** Position between source frames of the next frame to resample. */
+    private double resamplePosition;
+    /** Last source frame of the previous chunk, left and right. */
+    private int previousLeft, previousRight;
+
+    /**
+     * Constructor, starts decoding the track.
+     *
+     * @param path
+     *            Resource path of the track.
+     * @param gain
+     *            Linear gain of the music.
+     */
+    MusicStream(final String path, final float gain) {
+        this.path = path;
+        this.gain = gain;
+        this.decoder = new Thread(this, "Music decoder");
+        this.decoder.setDaemon(true);
+        this.decoder.start();
+    }
+
+    void setGain(final float gain) {
+        this.gain = gain;
+    }
+
+    void setPaused(final boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Stops the stream for good, ending the decoder thread.
+     */
+    void close() {
+        this.closed = true;
+        LockSupport.unpark(this.decoder);
+    }
+
+    /**
+     * Adds the next frames of the music to a mix, unless it is paused.
+     * Called by the audio thread only. Frames not decoded yet are left
+     * silent.
+     *
+     * @param mix
+     *            Sum of the voices, both channels interleaved.
+     * @param frames
+     *            Number of frames to add.
+     */
+    void mixInto(final int[] mix, final int frames) {
+        if (this.paused || this.closed)
+            return;
+        long start = this.read;
+        int available = (int) Math.min(frames, this.written - start);
+        int gain = Math.round(this.gain * 256);
+        for (int frame = 0; frame < available; frame++) {
+            int index = (int) ((start + frame) & (RING_FRAMES - 1)) * 2;
+            mix[frame * 2] += (this.ring[index] * gain) >> 8;
+            mix[frame * 2 + 1] += (this.ring[index + 1] * gain) >> 8;
+        }
+        this.read = start + available;
+        if (available > 0)
+            LockSupport.unpark(this.decoder);
+    }
+
+    /**
+     * Decoder thread: decodes the track over and over until closed.
+     */
+    @Override
+    public void run() {
+        try {
+            while (!this.closed)
+                decodeOnce();
+        } catch (UnsupportedAudioFileException | IOException e) {
+            LOGGER.warning("Unable to stream music '" + this.path + "': "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the track once, chunk by chunk, into the ring.
+     */
+    private void decodeOnce()
+            throws UnsupportedAudioFileException, IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(
+                new BufferedInputStream(SampleBank.open(this.path)))) {
+            AudioFormat format = source.getFormat();
+            int channels = format.getChannels();
+            AudioFormat pcm = new AudioFormat(format.getSampleRate(), 16,
+                    channels, true, false);
+            double step = format.getSampleRate()
+                    / SampleBank.FORMAT.getSampleRate();
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(
+                    pcm, source)) {
+                byte[] chunk = new byte[CHUNK_FRAMES * channels * 2];
+                long total = 0;
+                int count;
+                while (!this.closed
+                        && (count = converted.readNBytes(chunk, 0, chunk.length)) > 0) {
+                    resample(chunk, count / (channels * 2), channels, step);
+                    total += count;
+                }
+                if (total == 0 && !this.closed)
+                    throw new IOException("Empty track");
+            }
+        }
+    }
+
+    /**
+     * Converts a chunk of 16 bit source frames to the mixer's rate and two
+     * channels, carrying the position over to the next chunk so chunks
+     * and loops join without a seam.
+     */
+    private void resample(final byte[] chunk, final int frames,
+            final int channels, final double step) {
+        if (frames == 0)
+            return;
+        while (this.resamplePosition < frames - 1) {
+            int first = (int) Math.floor(this.resamplePosition);
+            double weight = this.resamplePosition - first;
+            int left, right;
+            int nextLeft = sample(chunk, first + 1, 0, channels);
+            int nextRight = sample(chunk, first + 1, Math.min(1, channels - 1),
+                    channels);
+            if (first < 0) {
+                left = this.previousLeft;
+                right = this.previousRight;
+            } else {
+                left = sample(chunk, first, 0, channels);
+                right = sample(chunk, first, Math.min(1, channels - 1),
+                        channels);
+            }
+            put((short) Math.round(left + (nextLeft - left) * weight),
+                    (short) Math.round(right + (nextRight - right) * weight));
+            if (this.closed)
+                return;
+            this.resamplePosition += step;
+        }
+        this.previousLeft = sample(chunk, frames - 1, 0, channels);
+        this.previousRight = sample(chunk, frames - 1,
+                Math.min(1, channels - 1), channels);
+        this.resamplePosition -= frames;
+    }
+
+    /** Reads a little endian 16 bit sample. */
+    private static int sample(final byte[] bytes, final int frame,
+            final int channel, final int channels) {
+        int offset = (frame * channels + channel) * 2;
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] << 8);
+    }
+
+    /**
+     * Writes a frame to the ring, sleeping while it is full, such as while
+     * the music is paused, until the audio thread reads from it or the
+     * stream is closed.
+     */
+    private void put(final short left, final short right) {
+        long position = this.written;
+        while (position - this.read >= RING_FRAMES) {
+            if (this.closed)
+                return;
+            LockSupport.park(this);
+        }
+        int index = (int) (position & (RING_FRAMES - 1)) * 2;
+        this.ring[index] = left;
+        this.ring[index + 1] = right;
+        this.written = position + 1;
+    }
+}
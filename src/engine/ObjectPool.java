@@ -0,0 +1,107 @@
+package engine;
+
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of reusable objects, kept in an array used as a free list.
+ * Objects are created by a factory when the pool is empty, and dropped
+ * when they are released into a full pool.
+ *
+ * @param <T>
+ *            Type of the pooled objects.
+ */
+public final class ObjectPool<T> {
+
+    /** Application logger. */
+    private static final Logger LOGGER = Core.getLogger();
+
+    /** Creates objects when the pool is empty. */
+    private final Supplier<T> factory;
+    /** Objects available, packed at the front. */
+    private final Object[] free;
+    /** Number of objects available. */
+    private int freeCount;
+    /** Objects handed out and not released yet. */
+    private int inUse;
+    /** Usage counters. */
+    private final PoolStats stats;
+
+    /**
+     * Constructor, creates an empty pool.
+     *
+     * @param name
+     *            Name of the pool, for logging.
+     * @param capacity
+     *            Most objects the pool keeps.
+     * @param factory
+     *            Creates objects when the pool is empty.
+     */
+    public ObjectPool(final String name, final int capacity,
+            final Supplier<T> factory) {
+        this.factory = factory;
+        this.free = new Object[capacity];
+        this.stats = new PoolStats(name, capacity);
+    }
+
+    /**
+     * Creates objects ahead of time, so the first requests do not allocate.
+     *
+     * @param count
+     *            Objects the pool should hold, up to its capacity.
+     */
+    public void prewarm(final int count) {
+        int target = Math.min(count, this.free.length);
+        while (this.freeCount < target)
+            this.free[this.freeCount++] = this.factory.get();
+    }
+
+    /**
+     * Takes an object from the pool, or creates one if it is empty.
+     *
+     * @return Object to use, in whatever state it was released in.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        this.inUse++;
+        if (this.freeCount == 0) {
+            this.stats.recordMiss(this.inUse);
+            return this.factory.get();
+        }
+        T object = (T) this.free[--this.freeCount];
+        this.free[this.freeCount] = null;
+        this.stats.recordHit(this.inUse);
+        return object;
+    }
+
+    /**
+     * Returns an object to the pool. Objects already in the pool are
+     * ignored, and objects past its capacity are left to the collector.
+     *
+     * @param object
+     *            Object no longer in use.
+     */
+    public void release(final T object) {
+        for (int i = 0; i < this.freeCount; i++)
+            if (this.free[i] == object) {
+                this.stats.recordDoubleRelease();
+                LOGGER.warning("Ignored an object released twice, "
+                        + this.stats);
+                return;
+            }
+        this.inUse = Math.max(0, this.inUse - 1);
+        if (this.freeCount < this.free.length)
+            this.free[this.freeCount++] = object;
+    }
+
+    /**
+     * @return Number of objects available without allocating.
+     */
+    public int getFreeCount() {
+        return this.freeCount;
+    }
+
+    public PoolStats getStats() {
+        return this.stats;
+    }
+}
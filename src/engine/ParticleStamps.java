@@ -0,0 +1,104 @@
+package engine;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Explosion particles rendered ahead of time, one image per palette,
+ * diameter and alpha level, so drawing a particle is a single image copy
+ * instead of building and filling a radial gradient.
+ */
+final class ParticleStamps {
+
+    /** Largest particle diameter, in screen pixels. */
+    static final int MAX_DIAMETER = 23;
+    /** Number of alpha levels particles are rounded to. */
+    private static final int ALPHA_LEVELS = 16;
+    /** Gradient stops of a particle. */
+    private static final float[] FRACTIONS = {0.0f, 0.3f, 0.7f, 1.0f};
+    /** RGB of the first three stops, for enemy and player explosions. */
+    private static final int[][] PALETTES = {
+            {0xFFFFFA, 0xFFFAB4, 0xFFC8DC},
+            {0xFFFFB4, 0xFFC800, 0xFF5000}};
+
+    /** Stamps by palette, diameter and alpha level. */
+    private final BufferedImage[][][] stamps;
+
+    /**
+     * Constructor, renders every stamp.
+     *
+     * @param configuration
+     *            Configuration of the device stamps are drawn on, or null
+     *            for plain ARGB images.
+     * @param scale
+     *            Screen pixels per pixel of the buffer stamps are drawn on.
+     */
+    ParticleStamps(final GraphicsConfiguration configuration,
+            final int scale) {
+        this.stamps = new BufferedImage[PALETTES.length][MAX_DIAMETER + 1]
+                [ALPHA_LEVELS];
+        for (int palette = 0; palette < PALETTES.length; palette++)
+            for (int diameter = 1; diameter <= MAX_DIAMETER; diameter++)
+                for (int level = 1; level < ALPHA_LEVELS; level++)
+                    this.stamps[palette][diameter][level] = render(
+                            configuration, scale, PALETTES[palette], diameter,
+                            level * 255 / (ALPHA_LEVELS - 1));
+    }
+
+    /**
+     * Returns the stamp closest to a particle.
+     *
+     * @param enemy
+     *            Whether the particle belongs to an enemy explosion.
+     * @param diameter
+     *            Diameter of the particle, in screen pixels.
+     * @param alpha
+     *            Opacity of the particle, from 0 to 255.
+     * @return Image of the particle, or null if it is fully transparent.
+     */
+    BufferedImage get(final boolean enemy, final int diameter,
+            final int alpha) {
+        int level = (alpha * (ALPHA_LEVELS - 1) + 127) / 255;
+        return this.stamps[enemy ? 0 : 1]
+                [Math.max(1, Math.min(diameter, MAX_DIAMETER))]
+                [Math.max(0, Math.min(level, ALPHA_LEVELS - 1))];
+    }
+
+    /**
+     * Renders a particle the way DrawManager used to fill it: an oval with
+     * a radial gradient from its center, as wide as the oval.
+     */
+    private static BufferedImage render(
+            final GraphicsConfiguration configuration, final int scale,
+            final int[] palette, final int diameter, final int alpha) {
+        int size = (diameter + scale - 1) / scale;
+        BufferedImage image;
+        if (configuration != null)
+            image = configuration.createCompatibleImage(size, size,
+                    Transparency.TRANSLUCENT);
+        else
+            image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+
+        Color[] colors = {
+                new Color(palette[0] | alpha << 24, true),
+                new Color(palette[1] | alpha << 24, true),
+                new Color(palette[2] | (alpha / 2) << 24, true),
+                new Color(0, 0, 0, 0)};
+        Graphics2D graphics = image.createGraphics();
+        graphics.scale(1.0 / scale, 1.0 / scale);
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setPaint(new RadialGradientPaint(
+                new Point2D.Float(diameter / 2f, diameter / 2f), diameter,
+                FRACTIONS, colors));
+        graphics.fillOval(0, 0, diameter, diameter);
+        graphics.dispose();
+        return image;
+    }
+}
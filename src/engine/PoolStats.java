@@ -0,0 +1,102 @@
+package engine;
+
+/**
+ * Usage counters of a pool of preallocated objects or slots: how often a
+ * request was served from the pool, how often it was not, and how many
+ * were in use at most.
+ */
+public final class PoolStats {
+
+    /** Name of the pool, for logging. */
+    private final String name;
+    /** Most objects the pool keeps. */
+    private final int capacity;
+    /** Requests served from the pool. */
+    private long hits;
+    /** Requests the pool could not serve, allocated or dropped. */
+    private long misses;
+    /** Objects released while already in the pool. */
+    private long doubleReleases;
+    /** Most objects in use at once. */
+    private int highWater;
+
+    /**
+     * Constructor, starts every counter at zero.
+     *
+     * @param name
+     *            Name of the pool, for logging.
+     * @param capacity
+     *            Most objects the pool keeps.
+     */
+    public PoolStats(final String name, final int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a request served from the pool.
+     *
+     * @param inUse
+     *            Objects in use after the request.
+     */
+    public void recordHit(final int inUse) {
+        this.hits++;
+        this.highWater = Math.max(this.highWater, inUse);
+    }
+
+    /**
+     * Records a request the pool could not serve.
+     *
+     * @param inUse
+     *            Objects in use after the request.
+     */
+    public void recordMiss(final int inUse) {
+        this.misses++;
+        this.highWater = Math.max(this.highWater, inUse);
+    }
+
+    /**
+     * Records an object released twice.
+     */
+    public void recordDoubleRelease() {
+        this.doubleReleases++;
+    }
+
+    /**
+     * Sets every counter back to zero, such as when a level starts.
+     */
+    public void reset() {
+        this.hits = 0;
+        this.misses = 0;
+        this.doubleReleases = 0;
+        this.highWater = 0;
+    }
+
+    public long getHits() {
+        return this.hits;
+    }
+
+    public long getMisses() {
+        return this.misses;
+    }
+
+    public long getDoubleReleases() {
+        return this.doubleReleases;
+    }
+
+    public int getHighWater() {
+        return this.highWater;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " pool: " + this.hits + " hits, " + this.misses
+                + " misses, high water " + this.highWater + "/"
+                + this.capacity + ", " + this.doubleReleases
+                + " double releases";
+    }
+}
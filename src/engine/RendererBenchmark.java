@@ -0,0 +1,120 @@
+package engine;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import engine.DrawManager.SpriteType;
+import entity.BulletSystem;
+import entity.Entity;
+
+/**
+ * Compares the Java2D and software renderers by drawing a game frame
+ * through DrawManager with each: the star field, a formation of enemies,
+ * bullets and two explosions worth of particles. Runs headless, without
+ * opening a window, so showing the frame is left out.
+ *
+ * Usage: java -Djava.awt.headless=true engine.RendererBenchmark [frames]
+ */
+public final class RendererBenchmark {
+
+    /** Size of the back buffer, same as the game window. */
+    private static final int WIDTH = 448;
+    private static final int HEIGHT = 520;
+    /** Frames drawn before measuring. */
+    private static final int WARMUP_FRAMES = 300;
+    /** Frames measured by default. */
+    private static final int DEFAULT_FRAMES = 2000;
+    /** Columns and rows of the enemy formation. */
+    private static final int FORMATION_COLUMNS = 11;
+    private static final int FORMATION_ROWS = 5;
+    /** Number of bullets drawn per frame. */
+    private static final int BULLETS = 35;
+
+    /** Draws the frames. */
+    private final DrawManager drawManager;
+    /** Back buffer both renderers draw into. */
+    private final BufferedImage backBuffer;
+    /** Enemies of the formation. */
+    private final Entity[] enemies;
+    /** Bullets drawn every frame. */
+    private final BulletSystem bullets;
+
+    /**
+     * Constructor, lays out the frame.
+     */
+    private RendererBenchmark() {
+        this.drawManager = DrawManager.getInstance();
+        this.backBuffer = new BufferedImage(WIDTH, HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(0);
+
+        this.enemies = new Entity[FORMATION_COLUMNS * FORMATION_ROWS];
+        for (int i = 0; i < this.enemies.length; i++)
+            this.enemies[i] = new Entity(
+                    40 + (i % FORMATION_COLUMNS) * 36,
+                    100 + (i / FORMATION_COLUMNS) * 40,
+                    12 * 2, 8 * 2, Color.WHITE) {
+                { setSpriteType(SpriteType.EnemyShipA1); }
+            };
+
+        this.bullets = new BulletSystem();
+        for (int i = 0; i < BULLETS; i++)
+            this.bullets.spawn(random.nextInt(WIDTH), random.nextInt(HEIGHT),
+                    -6, 3 * 2, 5 * 2, Entity.Team.PLAYER1, 1);
+
+        this.drawManager.clearExplosions();
+        this.drawManager.triggerExplosion(WIDTH / 3, HEIGHT / 2, true, false);
+        this.drawManager.triggerExplosion(WIDTH * 2 / 3, HEIGHT / 3, false,
+                true);
+    }
+
+    /**
+     * Draws a frame the way GameScreen does.
+     *
+     * @param renderer
+     *            Software renderer of the back buffer, or null for Java2D.
+     */
+    private void drawFrame(final SoftwareRenderer renderer) {
+        this.drawManager.initDrawing(this.backBuffer, renderer);
+        this.drawManager.drawGameSpace();
+        for (Entity enemy : this.enemies)
+            this.drawManager.drawEntity(enemy, enemy.getPositionX(),
+                    enemy.getPositionY());
+        this.drawManager.drawBullets(this.bullets, 0f);
+        this.drawManager.drawExplosions();
+    }
+
+    /**
+     * Times a number of frames.
+     *
+     * @return Average time per frame, in microseconds.
+     */
+    private static double time(final Runnable frame, final int frames) {
+        for (int i = 0; i < WARMUP_FRAMES; i++)
+            frame.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++)
+            frame.run();
+        return (System.nanoTime() - start) / 1000.0 / frames;
+    }
+
+    /**
+     * Runs the benchmark and prints the time per frame of each renderer.
+     *
+     * @param args
+     *            Optional number of frames to measure.
+     */
+    public static void main(final String[] args) {
+        int frames = args.length > 0 ? Integer.parseInt(args[0])
+                : DEFAULT_FRAMES;
+        RendererBenchmark benchmark = new RendererBenchmark();
+        SoftwareRenderer renderer = new SoftwareRenderer(benchmark.backBuffer);
+
+        double java2D = time(() -> benchmark.drawFrame(null), frames);
+        double software = time(() -> benchmark.drawFrame(renderer), frames);
+
+        System.out.printf("Java2D:            %8.1f us/frame%n", java2D);
+        System.out.printf("Software renderer: %8.1f us/frame%n", software);
+    }
+}
@@ -0,0 +1,240 @@
+package engine;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Every sound effect under sound/, decoded once into the same PCM format
+ * and kept in memory, so that playing a sound never reads, decodes or
+ * converts anything.
+ */
+public final class SampleBank {
+
+    /** Resource folder the sounds are read from. */
+    private static final String SOUND_FOLDER = "sound";
+    /** Folder the sounds are read from when not on the class path. */
+    private static final String SOUND_DIRECTORY = "res/" + SOUND_FOLDER;
+
+    /**
+     * Largest WAV file decoded into memory, in bytes. Longer files, such
+     * as music, are left to be streamed.
+     */
+    private static final long MAX_FILE_SIZE = 1 << 20;
+
+    /** Format every sample is converted to: 44.1 kHz, 16 bit, stereo. */
+    public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2,
+            true, false);
+
+    /** Application logger. */
+    private static final Logger LOGGER = Core.getLogger();
+
+    /** Singleton instance of the class. */
+    private static SampleBank instance;
+
+    /** Samples by resource path, such as "sound/shoot.wav". */
+    private final Map<String, Sample> samples;
+
+    /**
+     * A sound decoded into FORMAT.
+     */
+    public static final class Sample {
+        /** Resource path of the sound. */
+        private final String path;
+        /** Samples of both channels, interleaved, left first. */
+        private final short[] data;
+
+        private Sample(final String path, final short[] data) {
+            this.path = path;
+            this.data = data;
+        }
+
+        public String getPath() {
+            return this.path;
+        }
+
+        /**
+         * @return Samples of both channels, interleaved, left first, not to
+         *         be modified.
+         */
+        public short[] getData() {
+            return this.data;
+        }
+
+        /**
+         * @return Number of frames of the sound.
+         */
+        public int getFrameCount() {
+            return this.data.length / 2;
+        }
+    }
+
+    /**
+     * Constructor, decodes every sound.
+     */
+    private SampleBank() {
+        Map<String, Sample> loaded = new HashMap<String, Sample>();
+        long bytes = 0;
+        for (String path : listSounds()) {
+            try {
+                short[] data = decode(path);
+                loaded.put(path, new Sample(path, data));
+                bytes += data.length * 2L;
+            } catch (UnsupportedAudioFileException | IOException e) {
+                LOGGER.warning("Unable to load sound '" + path + "': "
+                        + e.getMessage());
+            }
+        }
+        this.samples = Collections.unmodifiableMap(loaded);
+        LOGGER.info("Loaded " + loaded.size() + " sounds, " + bytes / 1024
+                + " KiB of PCM.");
+    }
+
+    /**
+     * Returns the shared instance of SampleBank, decoding every sound the
+     * first time.
+     *
+     * @return Shared instance of SampleBank.
+     */
+    public static SampleBank getInstance() {
+        if (instance == null)
+            instance = new SampleBank();
+        return instance;
+    }
+
+    /**
+     * Returns a decoded sound.
+     *
+     * @param path
+     *            Resource path of the sound, such as "sound/shoot.wav".
+     * @return Sample of the sound, or null if there is none.
+     */
+    public Sample get(final String path) {
+        return this.samples.get(path);
+    }
+
+    /**
+     * Lists the WAV files in the sound folder, from the class path, a JAR,
+     * or the resource directory.
+     */
+    private static List<String> listSounds() {
+        List<String> paths = new ArrayList<String>();
+        URL folder = SampleBank.class.getClassLoader().getResource(SOUND_FOLDER);
+        try {
+            if (folder != null && "jar".equals(folder.getProtocol())) {
+                JarFile jar = ((JarURLConnection) folder.openConnection())
+                        .getJarFile();
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (name.startsWith(SOUND_FOLDER + "/") && isWav(name)
+                            && fitsInMemory(name, entry.getSize()))
+                        paths.add(name);
+                }
+                return paths;
+            }
+            File directory = folder != null && "file".equals(folder.getProtocol())
+                    ? new File(folder.toURI()) : new File(SOUND_DIRECTORY);
+            File[] files = directory.listFiles();
+            if (files != null)
+                for (File file : files)
+                    if (file.isFile() && isWav(file.getName())
+                            && fitsInMemory(file.getName(), file.length()))
+                        paths.add(SOUND_FOLDER + "/" + file.getName());
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.warning("Unable to list sounds: " + e.getMessage());
+        }
+        return paths;
+    }
+
+    private static boolean isWav(final String name) {
+        return name.toLowerCase().endsWith(".wav");
+    }
+
+    private static boolean fitsInMemory(final String name, final long size) {
+        if (size <= MAX_FILE_SIZE)
+            return true;
+        LOGGER.info("Leaving " + name + " to be streamed.");
+        return false;
+    }
+
+    /**
+     * Opens a sound from the class path, or from the resource directory.
+     *
+     * @param path
+     *            Resource path of the sound, such as "sound/shoot.wav".
+     * @return Stream of the file.
+     * @throws IOException
+     *             If the sound is in neither place.
+     */
+    static InputStream open(final String path) throws IOException {
+        InputStream in = SampleBank.class.getClassLoader().getResourceAsStream(path);
+        return in != null ? in : new FileInputStream(new File("res", path));
+    }
+
+    /**
+     * Reads a sound and converts it to FORMAT: first to 16 bit signed PCM
+     * at its own rate, then resampled and spread over both channels.
+     */
+    private static short[] decode(final String path)
+            throws UnsupportedAudioFileException, IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(
+                new BufferedInputStream(open(path)))) {
+            AudioFormat format = source.getFormat();
+            int channels = format.getChannels();
+            AudioFormat pcm = new AudioFormat(format.getSampleRate(), 16,
+                    channels, true, false);
+            byte[] bytes;
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(
+                    pcm, source)) {
+                bytes = converted.readAllBytes();
+            }
+
+            int frames = bytes.length / (2 * channels);
+            double step = format.getSampleRate() / FORMAT.getSampleRate();
+            int outFrames = (int) (frames / step);
+            short[] data = new short[outFrames * 2];
+            for (int frame = 0; frame < outFrames; frame++) {
+                double position = frame * step;
+                int first = (int) position;
+                int second = Math.min(first + 1, frames - 1);
+                double weight = position - first;
+                for (int channel = 0; channel < 2; channel++) {
+                    int from = Math.min(channel, channels - 1);
+                    double value = sample(bytes, first, from, channels)
+                            * (1 - weight)
+                            + sample(bytes, second, from, channels) * weight;
+                    data[frame * 2 + channel] = (short) Math.round(value);
+                }
+            }
+            return data;
+        }
+    }
+
+    /** Reads a little endian 16 bit sample. */
+    private static int sample(final byte[] bytes, final int frame,
+            final int channel, final int channels) {
+        int offset = (frame * channels + channel) * 2;
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] << 8);
+    }
+}
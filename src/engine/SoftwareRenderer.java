@@ -0,0 +1,259 @@
+package engine;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Draws primitives by writing straight into the pixel array of an
+ * integer RGB back buffer, bypassing Graphics2D. Meant for headless and
+ * low-end runs, where Java2D falls back to its generic software loops.
+ * Colors are ARGB ints, blended over the opaque background.
+ *
+ * Coordinates are given in screen pixels. When the buffer is smaller than
+ * the screen by an integer scale, they are divided down to buffer pixels,
+ * while images are expected at the buffer's resolution already.
+ */
+final class SoftwareRenderer {
+
+    /** Pixels of the back buffer, row by row. */
+    private final int[] pixels;
+    /** Width of the back buffer. */
+    private final int width;
+    /** Height of the back buffer. */
+    private final int height;
+    /** Screen pixels per buffer pixel. */
+    private final int scale;
+
+    /**
+     * Constructor, attaches the renderer to a back buffer the size of the
+     * screen.
+     *
+     * @param target
+     *            Back buffer, of type TYPE_INT_RGB.
+     */
+    SoftwareRenderer(final BufferedImage target) {
+        this(target, 1);
+    }
+
+    /**
+     * Constructor, attaches the renderer to a back buffer.
+     *
+     * @param target
+     *            Back buffer, of type TYPE_INT_RGB.
+     * @param scale
+     *            Screen pixels per buffer pixel.
+     */
+    SoftwareRenderer(final BufferedImage target, final int scale) {
+        if (target.getType() != BufferedImage.TYPE_INT_RGB)
+            throw new IllegalArgumentException(
+                    "Software rendering needs a TYPE_INT_RGB buffer.");
+        this.pixels = ((DataBufferInt) target.getRaster().getDataBuffer())
+                .getData();
+        this.width = target.getWidth();
+        this.height = target.getHeight();
+        this.scale = Math.max(1, scale);
+    }
+
+    /**
+     * Fills the whole buffer with a color.
+     *
+     * @param rgb
+     *            Color to fill with.
+     */
+    void clear(final int rgb) {
+        Arrays.fill(this.pixels, rgb);
+    }
+
+    /**
+     * Fills a rectangle, clipped to the buffer.
+     *
+     * @param x
+     *            Left side of the rectangle.
+     * @param y
+     *            Upper side of the rectangle.
+     * @param w
+     *            Width of the rectangle.
+     * @param h
+     *            Height of the rectangle.
+     * @param argb
+     *            Color of the rectangle.
+     */
+    void fillRect(final int x, final int y, final int w, final int h,
+            final int argb) {
+        int x0 = Math.max(Math.floorDiv(x, this.scale), 0);
+        int y0 = Math.max(Math.floorDiv(y, this.scale), 0);
+        int x1 = Math.min(ceilDiv(x + w), this.width);
+        int y1 = Math.min(ceilDiv(y + h), this.height);
+        if (x0 >= x1 || y0 >= y1)
+            return;
+
+        int alpha = argb >>> 24;
+        for (int row = y0; row < y1; row++) {
+            int offset = row * this.width;
+            if (alpha == 255) {
+                Arrays.fill(this.pixels, offset + x0, offset + x1, argb);
+            } else {
+                for (int i = offset + x0; i < offset + x1; i++)
+                    this.pixels[i] = blend(this.pixels[i], argb, alpha);
+            }
+        }
+    }
+
+    /**
+     * Copies a TYPE_INT_ARGB image over the buffer, blending translucent
+     * pixels and skipping transparent ones.
+     *
+     * @param image
+     *            Image to copy.
+     * @param screenX
+     *            Left side of the image on the screen.
+     * @param screenY
+     *            Upper side of the image on the screen.
+     */
+    void drawImage(final BufferedImage image, final int screenX,
+            final int screenY) {
+        int x = Math.floorDiv(screenX, this.scale);
+        int y = Math.floorDiv(screenY, this.scale);
+        int[] source = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        int imageWidth = image.getWidth();
+        int x0 = Math.max(x, 0);
+        int y0 = Math.max(y, 0);
+        int x1 = Math.min(x + imageWidth, this.width);
+        int y1 = Math.min(y + image.getHeight(), this.height);
+
+        for (int row = y0; row < y1; row++) {
+            int sourceIndex = (row - y) * imageWidth + (x0 - x);
+            int index = row * this.width + x0;
+            for (int col = x0; col < x1; col++, sourceIndex++, index++) {
+                int argb = source[sourceIndex];
+                int alpha = argb >>> 24;
+                if (alpha == 255)
+                    this.pixels[index] = argb;
+                else if (alpha != 0)
+                    this.pixels[index] = blend(this.pixels[index], argb, alpha);
+            }
+        }
+    }
+
+    /**
+     * Fills an oval with a radial gradient, like Graphics2D.fillOval with a
+     * RadialGradientPaint: colors are interpolated between stops by the
+     * distance to the gradient center, relative to its radius.
+     *
+     * @param screenCenterX
+     *            Center of the gradient in the X axis.
+     * @param screenCenterY
+     *            Center of the gradient in the Y axis.
+     * @param screenRadius
+     *            Radius of the gradient.
+     * @param fractions
+     *            Increasing stop positions, from 0 to 1.
+     * @param colors
+     *            Colors at each stop.
+     * @param screenX
+     *            Left side of the oval bounds.
+     * @param screenY
+     *            Upper side of the oval bounds.
+     * @param screenDiameter
+     *            Width and height of the oval bounds.
+     */
+    void fillGradientOval(final float screenCenterX, final float screenCenterY,
+            final float screenRadius, final float[] fractions,
+            final int[] colors, final int screenX, final int screenY,
+            final int screenDiameter) {
+        if (screenDiameter <= 0 || screenRadius <= 0)
+            return;
+
+        float centerX = screenCenterX / this.scale;
+        float centerY = screenCenterY / this.scale;
+        float radius = screenRadius / this.scale;
+        int x = Math.floorDiv(screenX, this.scale);
+        int y = Math.floorDiv(screenY, this.scale);
+        int diameter = ceilDiv(screenDiameter);
+
+        float ovalRadius = diameter / 2f;
+        float ovalCenterX = x + ovalRadius;
+        float ovalCenterY = y + ovalRadius;
+        float ovalRadiusSquared = ovalRadius * ovalRadius;
+
+        int x0 = Math.max(x, 0);
+        int y0 = Math.max(y, 0);
+        int x1 = Math.min(x + diameter, this.width);
+        int y1 = Math.min(y + diameter, this.height);
+
+        for (int row = y0; row < y1; row++) {
+            float pixelY = row + 0.5f;
+            float ovalDy = pixelY - ovalCenterY;
+            float gradientDy = pixelY - centerY;
+            int index = row * this.width + x0;
+            for (int col = x0; col < x1; col++, index++) {
+                float pixelX = col + 0.5f;
+                float ovalDx = pixelX - ovalCenterX;
+                if (ovalDx * ovalDx + ovalDy * ovalDy > ovalRadiusSquared)
+                    continue;
+
+                float gradientDx = pixelX - centerX;
+                float distance = (float) Math.sqrt(gradientDx * gradientDx
+                        + gradientDy * gradientDy) / radius;
+                int argb = gradientColor(fractions, colors, distance);
+                int alpha = argb >>> 24;
+                if (alpha != 0)
+                    this.pixels[index] = blend(this.pixels[index], argb, alpha);
+            }
+        }
+    }
+
+    /**
+     * Converts a screen coordinate to buffer pixels, rounding up.
+     */
+    private int ceilDiv(final int value) {
+        return -Math.floorDiv(-value, this.scale);
+    }
+
+    /**
+     * Looks up the color of a gradient at a given position.
+     */
+    private static int gradientColor(final float[] fractions,
+            final int[] colors, final float position) {
+        if (position <= fractions[0])
+            return colors[0];
+        for (int i = 1; i < fractions.length; i++) {
+            if (position <= fractions[i]) {
+                float t = (position - fractions[i - 1])
+                        / (fractions[i] - fractions[i - 1]);
+                return lerp(colors[i - 1], colors[i], t);
+            }
+        }
+        return colors[colors.length - 1];
+    }
+
+    /**
+     * Linearly interpolates every ARGB channel of two colors.
+     */
+    private static int lerp(final int from, final int to, final float t) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            int a = (from >>> shift) & 0xFF;
+            int b = (to >>> shift) & 0xFF;
+            result |= ((int) (a + (b - a) * t + 0.5f) & 0xFF) << shift;
+        }
+        return result;
+    }
+
+    /**
+     * Blends a translucent color over an opaque pixel.
+     */
+    private static int blend(final int destination, final int argb,
+            final int alpha) {
+        int inverse = 255 - alpha;
+        int red = (((argb >> 16) & 0xFF) * alpha
+                + ((destination >> 16) & 0xFF) * inverse) / 255;
+        int green = (((argb >> 8) & 0xFF) * alpha
+                + ((destination >> 8) & 0xFF) * inverse) / 255;
+        int blue = ((argb & 0xFF) * alpha + (destination & 0xFF) * inverse)
+                / 255;
+        return 0xFF000000 | (red << 16) | (green << 8) | blue;
+    }
+}
@@ -1,123 +1,120 @@
 package engine;
 
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.DataLine;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.LineEvent;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Logger;
 
 /**
- * Minimal sound manager for short SFX.
+ * Minimal sound manager for short SFX. Sounds come decoded from the sample
+ * bank and are all played through the audio mixer's single line.
+ *
+ * Every call only queues a command and returns: a sound thread runs the
+ * commands in order, so the game loop never waits on javax.sound.
  */
 public final class  SoundManager {
 
     private static final Logger logger = Core.getLogger();
-    private static Clip loopClip;
+
+    /** Priority of shots, fired many times a second. */
+    private static final int PRIORITY_SHOT = 0;
+    /** Priority of menu and pickup sounds, and of sounds not listed. */
+    private static final int PRIORITY_DEFAULT = 1;
+    /** Priority of kills and explosions. */
+    private static final int PRIORITY_EXPLOSION = 2;
+    /** Priority of achievements, the countdown and the end of a game. */
+    private static final int PRIORITY_EVENT = 3;
+    /** Priority of loops, never taken over by a sound effect. */
+    private static final int PRIORITY_LOOP = 4;
+
+    /** How a sound effect shares the mixer's voices. */
+    private static final class Policy {
+        /** Importance of the sound. */
+        private final int priority;
+        /** Most voices playing the sound at once. */
+        private final int maxVoices;
+
+        private Policy(final int priority, final int maxVoices) {
+            this.priority = priority;
+            this.maxVoices = maxVoices;
+        }
+    }
+
+    /** Policy of sound effects not listed. */
+    private static final Policy DEFAULT_POLICY = new Policy(PRIORITY_DEFAULT, 4);
+    /** Policy of each sound effect, by resource path. */
+    private static final Map<String, Policy> POLICIES = new HashMap<String, Policy>();
+    static {
+        POLICIES.put("sound/shoot.wav", new Policy(PRIORITY_SHOT, 3));
+        POLICIES.put("sound/shoot_enemies.wav", new Policy(PRIORITY_SHOT, 3));
+        POLICIES.put("sound/shooting.wav", new Policy(PRIORITY_SHOT, 3));
+        POLICIES.put("sound/invaderkilled.wav", new Policy(PRIORITY_EXPLOSION, 4));
+        POLICIES.put("sound/explosion.wav", new Policy(PRIORITY_EXPLOSION, 3));
+        POLICIES.put("sound/achievement.wav", new Policy(PRIORITY_EVENT, 2));
+        POLICIES.put("sound/CountDownSound.wav", new Policy(PRIORITY_EVENT, 1));
+        POLICIES.put("sound/win.wav", new Policy(PRIORITY_EVENT, 1));
+        POLICIES.put("sound/lose.wav", new Policy(PRIORITY_EVENT, 1));
+    }
+
+    /** Commands waiting for the sound thread, in the order they were given. */
+    private static final Queue<Runnable> commands = new ConcurrentLinkedQueue<Runnable>();
+    /** Sound thread, the only one touching the mixer and the state below. */
+    private static final Thread worker = startWorker();
+
+    /** Voice of the looped sound, 0 if there is none. */
+    private static int loopVoice;
+    /**
+     * Whether the looped sound is streamed as the background music, being
+     * too long for the sample bank.
+     */
+    private static boolean loopStreamed;
+    // Background music stream - static to persist across method calls
+    private static MusicStream backgroundMusic = null;
+    private static boolean isMusicPlaying = false;
 
     private SoundManager() {
     }
 
     /**
      * Plays a short WAV from resources folder. Example path: "sound/shoot.wav".
-     * Uses a new Clip per invocation for simplicity; suitable for very short SFX.
      */
     public static void playOnce(String resourcePath) {
-        AudioInputStream audioStream = null;
-        Clip clip = null;
-        try {
-            audioStream = openAudioStream(resourcePath);
-            if (audioStream == null) return;
-            audioStream = toPcmSigned(audioStream);
-            DataLine.Info info = new DataLine.Info(Clip.class, audioStream.getFormat());
-            clip = (Clip) AudioSystem.getLine(info);
-            clip.open(audioStream);
-
-            // Set volume based on user settings
-            if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                FloatControl gain = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                float volumeDb = calculateVolumeDb(Core.getVolumeLevel());
-                gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), volumeDb)));
-            }
-
-            clip.start();
-            logger.info("Started one-shot sound: " + resourcePath);
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            logger.info("Unable to play sound '" + resourcePath + "': " + e.getMessage());
-        } finally {
-            // We can't close 'in' immediately because AudioSystem may stream; rely on clip close
-            if (clip != null) {
-                final Clip c = clip;
-                c.addLineListener(event -> {
-                    LineEvent.Type type = event.getType();
-                    if (type == LineEvent.Type.STOP || type == LineEvent.Type.CLOSE) {
-                        try {
-                            c.close();
-                        } catch (Exception ignored) {}
-                    }
-                });
-            }
-        }
+        final int volumeLevel = Core.getVolumeLevel();
+        submit(() -> {
+            if (play(resourcePath, false, volumeLevel) != 0)
+                logger.fine("Started one-shot sound: " + resourcePath);
+        });
     }
 
     /**
-     * Plays a WAV in a loop until {@link #stop()} is called.
+     * Plays a WAV in a loop until {@link #stop()} is called. WAVs too long
+     * for the sample bank are streamed instead.
      */
     public static void playLoop(String resourcePath) {
-        stop();
-        stopBackgroundMusic();
-
-        AudioInputStream audioStream = null;
-        try {
-            audioStream = openAudioStream(resourcePath);
-            if (audioStream == null) return;
-            audioStream = toPcmSigned(audioStream);
-
-            DataLine.Info info = new DataLine.Info(Clip.class, audioStream.getFormat());
-            loopClip = (Clip) AudioSystem.getLine(info);
-            loopClip.open(audioStream);
-
-            // Set volume based on user settings for loops
-            if (loopClip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                FloatControl gain = (FloatControl) loopClip.getControl(FloatControl.Type.MASTER_GAIN);
-                float volumeDb = calculateVolumeDb(Core.getVolumeLevel());
-                gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), volumeDb)));
-            }
+        final int volumeLevel = Core.getVolumeLevel();
+        submit(() -> {
+            stopLoop();
+            stopMusic();
 
-            loopClip.loop(Clip.LOOP_CONTINUOUSLY);
-            loopClip.start();
-            logger.fine("Started looped sound: " + resourcePath);
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            logger.fine("Unable to loop sound '" + resourcePath + "': " + e.getMessage());
-            if (loopClip != null) {
-                try { loopClip.close(); } catch (Exception ignored) {}
-                loopClip = null;
+            if (SampleBank.getInstance().get(resourcePath) == null) {
+                loopStreamed = startMusic(resourcePath, calculateGain(volumeLevel));
+                if (loopStreamed)
+                    logger.fine("Streaming looped sound: " + resourcePath);
+                return;
             }
-        }
+            loopVoice = play(resourcePath, true, volumeLevel);
+            if (loopVoice != 0)
+                logger.fine("Started looped sound: " + resourcePath);
+        });
     }
 
     /**
-     * Stops and releases the current looped clip, if any.
+     * Stops the current looped sound, if any.
      */
     public static void stop() {
-        if (loopClip != null) {
-            try {
-                loopClip.stop();
-                loopClip.close();
-            } catch (Exception e) {
-                logger.fine("Error stopping looped sound: " + e.getMessage());
-            } finally {
-                loopClip = null;
-            }
-        }
+        submit(SoundManager::stopLoop);
     }
 
     /**
@@ -125,131 +122,175 @@ public final class  SoundManager {
      * Use this when transitioning between screens to ensure no overlap.
      */
     public static void stopAllMusic() {
-        stop(); // stops looped music
-        stopBackgroundMusic(); // stops background music
+        submit(() -> {
+            stopLoop(); // stops looped music
+            stopMusic(); // stops background music
+        });
     }
-    // Background music clip - static to persist across method calls
-    private static Clip backgroundMusicClip = null;
-    private static boolean isMusicPlaying = false;
-    private static float musicVolumeDb = -10.0f; // Default music volume
 
     /**
-     * starts playing background music that loops during gameplay
+     * starts streaming background music that loops during gameplay
      */
     public static void startBackgroundMusic(String musicResourcePath) {
-        // stop any currently playing music (both loop and background music)
-        stop();
-        stopBackgroundMusic();
+        final float gain = calculateGain(Core.getVolumeLevel());
+        submit(() -> {
+            // stop any currently playing music (both loop and background music)
+            stopLoop();
+            stopMusic();
 
-        InputStream in = null;
-        AudioInputStream audioStream = null;
+            if (startMusic(musicResourcePath, gain))
+                logger.fine("Background music started: " + musicResourcePath);
+        });
+    }
 
-        try {
-            in = SoundManager.class.getClassLoader().getResourceAsStream(musicResourcePath);
-            if (in == null) {
-                logger.fine("Music resource not found: " + musicResourcePath);
-                return;
+    /**
+     * Holds the background music where it is, without closing it.
+     */
+    public static void pauseBackgroundMusic() {
+        submit(() -> {
+            if (backgroundMusic != null) {
+                backgroundMusic.setPaused(true);
+                isMusicPlaying = false;
             }
+        });
+    }
 
-            audioStream = AudioSystem.getAudioInputStream(in);
-            DataLine.Info info = new DataLine.Info(Clip.class, audioStream.getFormat());
-            backgroundMusicClip = (Clip) AudioSystem.getLine(info);
-            backgroundMusicClip.open(audioStream);
+    /**
+     * Resumes the background music from where it was paused.
+     */
+    public static void resumeBackgroundMusic() {
+        submit(() -> {
+            if (backgroundMusic != null) {
+                backgroundMusic.setPaused(false);
+                isMusicPlaying = true;
+            }
+        });
+    }
 
-            // set looping
-            backgroundMusicClip.loop(Clip.LOOP_CONTINUOUSLY);
+    /**
+     * stops the background music
+     */
+    public static void stopBackgroundMusic() {
+        submit(SoundManager::stopMusic);
+    }
 
-            // set music volume based on user settings
-            if (backgroundMusicClip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                FloatControl gain = (FloatControl) backgroundMusicClip.getControl(FloatControl.Type.MASTER_GAIN);
-                float volumeDb = calculateVolumeDb(Core.getVolumeLevel());
-                gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), volumeDb)));
-            }
+    /**
+     * Updates the volume of currently playing sounds.
+     * This should be called when the volume slider is changed.
+     */
+    public static void updateVolume() {
+        final float gain = calculateGain(Core.getVolumeLevel());
+        submit(() -> {
+            // Update looped sound volume (menu music)
+            if (loopVoice != 0)
+                AudioMixer.getInstance().setGain(loopVoice, gain);
 
-            backgroundMusicClip.start();
-            isMusicPlaying = true;
-            logger.fine("Background music started: " + musicResourcePath);
+            // Update background music volume (game music)
+            if (backgroundMusic != null)
+                backgroundMusic.setGain(gain);
+        });
+    }
 
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            logger.fine("Unable to play background music '" + musicResourcePath + "': " + e.getMessage());
-            cleanupMusicResources();
-        }
+    /**
+     * Queues a command for the sound thread and wakes it up. Never blocks.
+     */
+    private static void submit(Runnable command) {
+        commands.offer(command);
+        LockSupport.unpark(worker);
+    }
+
+    /** Starts the sound thread. */
+    private static Thread startWorker() {
+        Thread thread = new Thread(SoundManager::runCommands, "Sound commands");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
     }
 
     /**
-     * stops the background music and releases resources
+     * Sound thread: runs the commands in order, sleeping while there are
+     * none.
      */
-    public static void stopBackgroundMusic() {
-        if (backgroundMusicClip != null) {
+    private static void runCommands() {
+        while (true) {
+            Runnable command = commands.poll();
+            if (command == null) {
+                LockSupport.park();
+                continue;
+            }
             try {
-                backgroundMusicClip.stop();
-                backgroundMusicClip.close();
-            } catch (Exception e) {
-                logger.fine("Error stopping background music: " + e.getMessage());
-            } finally {
-                cleanupMusicResources();
+                command.run();
+            } catch (RuntimeException e) {
+                logger.warning("Sound command failed: " + e);
             }
         }
     }
 
-    private static void cleanupMusicResources() {
-        backgroundMusicClip = null;
-        isMusicPlaying = false;
-    }
-
-    /** Opens an audio stream from classpath resources or absolute/relative file path. */
-    private static AudioInputStream openAudioStream(String resourcePath)
-            throws UnsupportedAudioFileException, IOException {
-        InputStream in = SoundManager.class.getClassLoader().getResourceAsStream(resourcePath);
-        if (in != null) {
-            return AudioSystem.getAudioInputStream(in);
-        }
-        // Fallback to file system path for developer/local runs
-        try (FileInputStream fis = new FileInputStream(resourcePath)) {
-            return AudioSystem.getAudioInputStream(fis);
-        } catch (FileNotFoundException e) {
+    /**
+     * Starts a sound of the sample bank on the mixer. Sound thread only.
+     *
+     * @return Voice playing the sound, or 0 if it cannot be played.
+     */
+    private static int play(String resourcePath, boolean loop, int volumeLevel) {
+        SampleBank.Sample sample = SampleBank.getInstance().get(resourcePath);
+        if (sample == null) {
             logger.fine("Audio resource not found: " + resourcePath);
-            return null;
+            return 0;
         }
+        float gain = calculateGain(volumeLevel);
+        if (loop)
+            return AudioMixer.getInstance().play(sample, gain, true,
+                    PRIORITY_LOOP, AudioMixer.MAX_VOICES);
+        Policy policy = POLICIES.getOrDefault(resourcePath, DEFAULT_POLICY);
+        return AudioMixer.getInstance().play(sample, gain, false,
+                policy.priority, policy.maxVoices);
     }
 
-    /** Ensures the audio stream is PCM_SIGNED for Clip compatibility on all JVMs. */
-    private static AudioInputStream toPcmSigned(AudioInputStream source) throws UnsupportedAudioFileException, IOException {
-        AudioFormat format = source.getFormat();
-        if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED) {
-            return source;
+    /**
+     * Starts streaming a track as the background music. Sound thread only.
+     *
+     * @return Whether the mixer is available to play it.
+     */
+    private static boolean startMusic(String resourcePath, float gain) {
+        AudioMixer mixer = AudioMixer.getInstance();
+        if (!mixer.isAvailable())
+            return false;
+        backgroundMusic = new MusicStream(resourcePath, gain);
+        mixer.setMusic(backgroundMusic);
+        isMusicPlaying = true;
+        return true;
+    }
+
+    /** Stops the looped sound, if any. Sound thread only. */
+    private static void stopLoop() {
+        if (loopVoice != 0) {
+            AudioMixer.getInstance().stop(loopVoice);
+            loopVoice = 0;
         }
+        if (loopStreamed)
+            stopMusic();
+    }
 
-        AudioFormat targetFormat = new AudioFormat(
-                AudioFormat.Encoding.PCM_SIGNED,
-                format.getSampleRate(),
-                16,
-                format.getChannels(),
-                format.getChannels() * 2,
-                format.getSampleRate(),
-                false
-        );
-        return AudioSystem.getAudioInputStream(targetFormat, source);
+    /** Stops the background music, if any. Sound thread only. */
+    private static void stopMusic() {
+        if (backgroundMusic != null) {
+            AudioMixer.getInstance().setMusic(null);
+            backgroundMusic.close();
+            backgroundMusic = null;
+        }
+        isMusicPlaying = false;
+        loopStreamed = false;
     }
 
     /**
-     * Updates the volume of currently playing sounds.
-     * This should be called when the volume slider is changed.
+     * Calculates the linear gain the mixer applies for a volume level.
+     * The level is converted to decibels first, so both agree.
+     *
+     * @param volumeLevel Volume level from 0 to 100
+     * @return Linear gain, 0 for silent, 1 for full volume
      */
-    public static void updateVolume() {
-        float volumeDb = calculateVolumeDb(Core.getVolumeLevel());
-        
-        // Update looped sound volume (menu music)
-        if (loopClip != null && loopClip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-            FloatControl gain = (FloatControl) loopClip.getControl(FloatControl.Type.MASTER_GAIN);
-            gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), volumeDb)));
-        }
-        
-        // Update background music volume (game music)
-        if (backgroundMusicClip != null && backgroundMusicClip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-            FloatControl gain = (FloatControl) backgroundMusicClip.getControl(FloatControl.Type.MASTER_GAIN);
-            gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), volumeDb)));
-        }
+    private static float calculateGain(int volumeLevel) {
+        return (float) Math.pow(10.0, calculateVolumeDb(volumeLevel) / 20.0);
     }
 
     /**
@@ -0,0 +1,173 @@
+package engine;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import engine.DrawManager.SpriteType;
+
+/**
+ * Keeps sprites rasterized for a given color and size, so that drawing an
+ * entity is a single image copy instead of one rectangle per lit pixel.
+ * Variants are evicted least recently used first once the cache is full.
+ *
+ * Variants are looked up by a primitive key in an open addressing table,
+ * so a draw that hits the cache allocates nothing.
+ */
+final class SpriteCache {
+
+    /** Maximum number of sprite variants kept at once. */
+    private static final int MAX_ENTRIES = 256;
+    /** Slots of the table, a power of two, twice MAX_ENTRIES. */
+    private static final int SLOTS = MAX_ENTRIES * 2;
+
+    /** Configuration images are made compatible with, may be null. */
+    private final GraphicsConfiguration configuration;
+    /** Key of the variant in each slot. */
+    private final long[] keys = new long[SLOTS];
+    /** Rasterized sprite in each slot, null if the slot is free. */
+    private final BufferedImage[] images = new BufferedImage[SLOTS];
+    /** Last lookup of the variant in each slot, on the clock below. */
+    private final long[] lastUsed = new long[SLOTS];
+    /** Number of variants kept. */
+    private int count;
+    /** Lookups so far, to find the least recently used variant. */
+    private long clock;
+
+    /**
+     * Constructor, creates an empty cache.
+     *
+     * @param configuration
+     *            Configuration of the device sprites are drawn on, or null
+     *            for plain ARGB images.
+     */
+    SpriteCache(final GraphicsConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Returns the sprite rasterized with the given color and size, creating
+     * it on first use.
+     *
+     * @param spriteType
+     *            Type of the sprite.
+     * @param sprite
+     *            Pixels of the sprite, as loaded from disk.
+     * @param argb
+     *            Color of the sprite, alpha included.
+     * @param width
+     *            Width of the entity the sprite is drawn for.
+     * @param height
+     *            Height of the entity the sprite is drawn for.
+     * @return Image of the sprite.
+     */
+    BufferedImage get(final SpriteType spriteType, final boolean[][] sprite,
+            final int argb, final int width, final int height) {
+        long key = ((long) argb << 32) | ((long) spriteType.ordinal() << 24)
+                | ((width & 0xFFF) << 12) | (height & 0xFFF);
+        this.clock++;
+        for (int slot = home(key); this.images[slot] != null;
+                slot = (slot + 1) & (SLOTS - 1)) {
+            if (this.keys[slot] == key) {
+                this.lastUsed[slot] = this.clock;
+                return this.images[slot];
+            }
+        }
+
+        BufferedImage image = rasterize(sprite, argb, width, height);
+        if (this.count == MAX_ENTRIES)
+            removeLeastRecentlyUsed();
+        int slot = home(key);
+        while (this.images[slot] != null)
+            slot = (slot + 1) & (SLOTS - 1);
+        this.keys[slot] = key;
+        this.images[slot] = image;
+        this.lastUsed[slot] = this.clock;
+        this.count++;
+        return image;
+    }
+
+    /**
+     * Empties the cache.
+     */
+    void clear() {
+        Arrays.fill(this.images, null);
+        this.count = 0;
+    }
+
+    /** First slot probed for a key. */
+    private static int home(final long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & (SLOTS - 1);
+    }
+
+    /**
+     * Removes the variant looked up longest ago. Only done when a new
+     * variant is rasterized into a full cache, so the scan is rare.
+     */
+    private void removeLeastRecentlyUsed() {
+        int oldest = -1;
+        for (int slot = 0; slot < SLOTS; slot++)
+            if (this.images[slot] != null
+                    && (oldest < 0 || this.lastUsed[slot] < this.lastUsed[oldest]))
+                oldest = slot;
+
+        // Shift back the variants that probed past the freed slot.
+        int hole = oldest;
+        this.images[hole] = null;
+        this.count--;
+        for (int slot = (hole + 1) & (SLOTS - 1); this.images[slot] != null;
+                slot = (slot + 1) & (SLOTS - 1)) {
+            int home = home(this.keys[slot]);
+            if (((slot - home) & (SLOTS - 1)) >= ((slot - hole) & (SLOTS - 1))) {
+                this.keys[hole] = this.keys[slot];
+                this.images[hole] = this.images[slot];
+                this.lastUsed[hole] = this.lastUsed[slot];
+                this.images[slot] = null;
+                hole = slot;
+            }
+        }
+    }
+
+    /**
+     * Draws a sprite into a new image, scaled the same way DrawManager used
+     * to draw it pixel by pixel: each sprite pixel covers two screen pixels
+     * at the sprite's native size, stretched to the entity's size.
+     */
+    private BufferedImage rasterize(final boolean[][] sprite, final int argb,
+            final int width, final int height) {
+        int spriteWidth = sprite.length;
+        int spriteHeight = sprite[0].length;
+        float widthRatio = (float) width / (spriteWidth * 2);
+        float heightRatio = (float) height / (spriteHeight * 2);
+        int pixelWidth = (int) Math.ceil(widthRatio * 2);
+        int pixelHeight = (int) Math.ceil(heightRatio * 2);
+
+        int imageWidth = Math.max(1,
+                (int) ((spriteWidth - 1) * 2 * widthRatio) + pixelWidth);
+        int imageHeight = Math.max(1,
+                (int) ((spriteHeight - 1) * 2 * heightRatio) + pixelHeight);
+
+        BufferedImage image;
+        if (this.configuration != null)
+            image = this.configuration.createCompatibleImage(imageWidth,
+                    imageHeight, Transparency.TRANSLUCENT);
+        else
+            image = new BufferedImage(imageWidth, imageHeight,
+                    BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(argb, true));
+        for (int i = 0; i < spriteWidth; i++)
+            for (int j = 0; j < spriteHeight; j++)
+                if (sprite[i][j])
+                    graphics.fillRect((int) (i * 2 * widthRatio),
+                            (int) (j * 2 * heightRatio),
+                            pixelWidth, pixelHeight);
+        graphics.dispose();
+
+        return image;
+    }
+}
@@ -0,0 +1,242 @@
+package entity;
+
+import java.awt.Color;
+import java.util.Arrays;
+
+import engine.DrawManager.SpriteType;
+import entity.Entity.Team;
+
+/**
+ * Entities with the same components, kept in parallel arrays, one row per
+ * entity, so systems walk each component in a straight line. Live rows are
+ * packed at the front of the arrays, a removed row is replaced by the last
+ * one.
+ *
+ * Positions are relative to the origin of the archetype, which is zero
+ * except for groups, such as the enemy formation, that move all their
+ * entities at once by moving the origin.
+ */
+final class Archetype {
+
+    /** Rows allocated by default. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** World holding the archetype, null for an entity out of any world. */
+    final World world;
+    /** Components of the entities, World.VELOCITY and others. */
+    final int components;
+    /** Whether the archetype is a group, moved by its origin. */
+    final boolean group;
+    /** Number of live rows. */
+    int count;
+
+    /** Entity of each row, null out of any world. */
+    Entity[] entities;
+    /** Upper left corner of each entity, from the origin. */
+    int[] x;
+    int[] y;
+    /** Upper left corner at the end of the previous update. */
+    int[] previousX;
+    int[] previousY;
+    int[] width;
+    int[] height;
+    SpriteType[] sprite;
+    Color[] color;
+    Team[] team;
+    /** Distance moved every update, with the VELOCITY component. */
+    int[] velocityX;
+    int[] velocityY;
+    /** Hits left, with the HEALTH component. */
+    int[] health;
+    /** Updates left in the world, with the LIFETIME component. */
+    int[] lifetime;
+
+    /** Position every row is placed from. */
+    int originX;
+    int originY;
+    /** Origin at the end of the previous update. */
+    int previousOriginX;
+    int previousOriginY;
+
+    /**
+     * Constructor, allocates the columns of the components.
+     *
+     * @param world
+     *            World holding the archetype, or null.
+     * @param components
+     *            Components of the entities.
+     * @param group
+     *            Whether the archetype is a group.
+     * @param capacity
+     *            Rows allocated up front.
+     */
+    Archetype(final World world, final int components, final boolean group,
+            final int capacity) {
+        this.world = world;
+        this.components = components;
+        this.group = group;
+        if (world != null)
+            this.entities = new Entity[capacity];
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+        this.previousX = new int[capacity];
+        this.previousY = new int[capacity];
+        this.width = new int[capacity];
+        this.height = new int[capacity];
+        this.sprite = new SpriteType[capacity];
+        this.color = new Color[capacity];
+        this.team = new Team[capacity];
+        if ((components & World.VELOCITY) != 0) {
+            this.velocityX = new int[capacity];
+            this.velocityY = new int[capacity];
+        }
+        if ((components & World.HEALTH) != 0)
+            this.health = new int[capacity];
+        if ((components & World.LIFETIME) != 0)
+            this.lifetime = new int[capacity];
+    }
+
+    /**
+     * Constructor, for archetypes of a world.
+     *
+     * @param world
+     *            World holding the archetype.
+     * @param components
+     *            Components of the entities.
+     * @param group
+     *            Whether the archetype is a group.
+     */
+    Archetype(final World world, final int components, final boolean group) {
+        this(world, components, group, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates the storage of an entity out of any world, a single row.
+     *
+     * @param components
+     *            Components of the entity.
+     * @return New archetype, with its row in use.
+     */
+    static Archetype detached(final int components) {
+        Archetype archetype = new Archetype(null, components, false, 1);
+        archetype.count = 1;
+        return archetype;
+    }
+
+    /**
+     * Appends a row for an entity, growing the columns when full.
+     *
+     * @param entity
+     *            Entity of the row.
+     * @return Index of the new row.
+     */
+    int add(final Entity entity) {
+        if (this.count == this.x.length)
+            grow(this.count * 2);
+        int row = this.count++;
+        this.entities[row] = entity;
+        return row;
+    }
+
+    /**
+     * Removes a row, moving the last one into its place.
+     *
+     * @param row
+     *            Index of a live row.
+     */
+    void remove(final int row) {
+        int last = --this.count;
+        if (row != last) {
+            this.entities[row] = this.entities[last];
+            this.entities[row].row = row;
+            this.x[row] = this.x[last];
+            this.y[row] = this.y[last];
+            this.previousX[row] = this.previousX[last];
+            this.previousY[row] = this.previousY[last];
+            this.width[row] = this.width[last];
+            this.height[row] = this.height[last];
+            this.sprite[row] = this.sprite[last];
+            this.color[row] = this.color[last];
+            this.team[row] = this.team[last];
+            if (this.velocityX != null) {
+                this.velocityX[row] = this.velocityX[last];
+                this.velocityY[row] = this.velocityY[last];
+            }
+            if (this.health != null)
+                this.health[row] = this.health[last];
+            if (this.lifetime != null)
+                this.lifetime[row] = this.lifetime[last];
+        }
+        this.entities[last] = null;
+        this.sprite[last] = null;
+        this.color[last] = null;
+        this.team[last] = null;
+    }
+
+    /**
+     * Copies a row into another archetype, keeping its place on screen.
+     * Components the target does not have are left out, and those the
+     * source does not have are zero.
+     *
+     * @param from
+     *            Archetype holding the row.
+     * @param fromRow
+     *            Index of the row.
+     * @param to
+     *            Archetype to copy into.
+     * @param toRow
+     *            Index of the row to copy into.
+     */
+    static void copy(final Archetype from, final int fromRow,
+            final Archetype to, final int toRow) {
+        to.x[toRow] = from.originX + from.x[fromRow] - to.originX;
+        to.y[toRow] = from.originY + from.y[fromRow] - to.originY;
+        to.previousX[toRow] = from.previousOriginX + from.previousX[fromRow]
+                - to.previousOriginX;
+        to.previousY[toRow] = from.previousOriginY + from.previousY[fromRow]
+                - to.previousOriginY;
+        to.width[toRow] = from.width[fromRow];
+        to.height[toRow] = from.height[fromRow];
+        to.sprite[toRow] = from.sprite[fromRow];
+        to.color[toRow] = from.color[fromRow];
+        to.team[toRow] = from.team[fromRow];
+        if (to.velocityX != null) {
+            to.velocityX[toRow] = from.velocityX != null
+                    ? from.velocityX[fromRow] : 0;
+            to.velocityY[toRow] = from.velocityY != null
+                    ? from.velocityY[fromRow] : 0;
+        }
+        if (to.health != null)
+            to.health[toRow] = from.health != null ? from.health[fromRow] : 0;
+        if (to.lifetime != null)
+            to.lifetime[toRow] = from.lifetime != null
+                    ? from.lifetime[fromRow] : 0;
+    }
+
+    /**
+     * Reallocates every column.
+     *
+     * @param capacity
+     *            New number of rows.
+     */
+    private void grow(final int capacity) {
+        this.entities = Arrays.copyOf(this.entities, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.previousX = Arrays.copyOf(this.previousX, capacity);
+        this.previousY = Arrays.copyOf(this.previousY, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.sprite = Arrays.copyOf(this.sprite, capacity);
+        this.color = Arrays.copyOf(this.color, capacity);
+        this.team = Arrays.copyOf(this.team, capacity);
+        if (this.velocityX != null) {
+            this.velocityX = Arrays.copyOf(this.velocityX, capacity);
+            this.velocityY = Arrays.copyOf(this.velocityY, capacity);
+        }
+        if (this.health != null)
+            this.health = Arrays.copyOf(this.health, capacity);
+        if (this.lifetime != null)
+            this.lifetime = Arrays.copyOf(this.lifetime, capacity);
+    }
+}
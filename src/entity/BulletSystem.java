@@ -0,0 +1,241 @@
+package entity;
+
+import engine.DrawManager.SpriteType;
+import engine.PoolStats;
+import entity.Entity.Team;
+
+/**
+ * Bullets on screen, kept in parallel primitive arrays so that shooting,
+ * moving, colliding and retiring them never allocates. Live bullets are
+ * packed at the front of the arrays, a removed bullet is replaced by the
+ * last one.
+ *
+ * Removing while iterating is safe when going from the last bullet to the
+ * first, since only bullets already visited are moved.
+ */
+public class BulletSystem {
+
+    /** Most bullets on screen at once, by default. */
+    public static final int MAX_BULLETS = 4096;
+
+    /** Teams by ordinal, to avoid copying Team.values() on every lookup. */
+    private static final Team[] TEAMS = Team.values();
+
+    /** Upper left corner of each bullet. */
+    private final int[] x;
+    private final int[] y;
+    /** Upper left corner of each bullet at the end of the previous update. */
+    private final int[] previousX;
+    private final int[] previousY;
+    /**
+     * Upper side of each bullet before its last move, so collisions can
+     * cover the whole step and not just where it ended.
+     */
+    private final int[] stepStartY;
+    /** Speed of each bullet, positive is down. */
+    private final int[] speed;
+    private final int[] width;
+    private final int[] height;
+    /** Player who fired each bullet, 0 = enemy, 1 = P1, 2 = P2. */
+    private final int[] owner;
+    /** Ordinal of the team of each bullet. */
+    private final int[] team;
+    /** Number of live bullets. */
+    private int count;
+    /** Bullets fired into a free slot, and bullets dropped. */
+    private final PoolStats stats;
+
+    /**
+     * Constructor, room for the default number of bullets.
+     */
+    public BulletSystem() {
+        this(MAX_BULLETS);
+    }
+
+    /**
+     * Constructor, allocates room for every bullet up front.
+     *
+     * @param capacity
+     *            Most bullets on screen at once.
+     */
+    public BulletSystem(final int capacity) {
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+        this.previousX = new int[capacity];
+        this.previousY = new int[capacity];
+        this.stepStartY = new int[capacity];
+        this.speed = new int[capacity];
+        this.width = new int[capacity];
+        this.height = new int[capacity];
+        this.owner = new int[capacity];
+        this.team = new int[capacity];
+        this.stats = new PoolStats("Bullet", capacity);
+    }
+
+    /**
+     * Fires a bullet. Bullets past the budget are not fired.
+     *
+     * @param centerX
+     *            Position of the center of the bullet in the X axis.
+     * @param positionY
+     *            Position of the upper side of the bullet in the Y axis.
+     * @param speed
+     *            Speed of the bullet, positive or negative depending on
+     *            direction - positive is down.
+     * @param width
+     *            Width of the bullet.
+     * @param height
+     *            Height of the bullet.
+     * @param team
+     *            Team of the bullet.
+     * @param ownerPlayerId
+     *            Player who fired the bullet, 0 for enemies.
+     * @return Index of the new bullet, or -1 if none was fired.
+     */
+    public int spawn(final int centerX, final int positionY, final int speed,
+            final int width, final int height, final Team team,
+            final int ownerPlayerId) {
+        if (count == x.length) {
+            stats.recordMiss(count);
+            return -1;
+        }
+        int i = count++;
+        stats.recordHit(count);
+        this.x[i] = centerX - width / 2;
+        this.y[i] = positionY;
+        this.previousX[i] = this.x[i];
+        this.previousY[i] = positionY;
+        this.stepStartY[i] = positionY;
+        this.speed[i] = speed;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.owner[i] = ownerPlayerId;
+        this.team[i] = team.ordinal();
+        return i;
+    }
+
+    /**
+     * Moves every bullet by one update.
+     */
+    public void update() {
+        for (int i = 0; i < count; i++) {
+            stepStartY[i] = y[i];
+            y[i] += speed[i];
+        }
+    }
+
+    /**
+     * Remembers the position of every bullet before they move.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, previousX, 0, count);
+        System.arraycopy(y, 0, previousY, 0, count);
+    }
+
+    /**
+     * Removes a bullet, moving the last one into its place.
+     *
+     * @param i
+     *            Index of a live bullet.
+     */
+    public void remove(final int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        previousX[i] = previousX[last];
+        previousY[i] = previousY[last];
+        stepStartY[i] = stepStartY[last];
+        speed[i] = speed[last];
+        width[i] = width[last];
+        height[i] = height[last];
+        owner[i] = owner[last];
+        team[i] = team[last];
+    }
+
+    /**
+     * Removes every bullet.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return Usage counters of the bullet slots.
+     */
+    public PoolStats getStats() {
+        return stats;
+    }
+
+    public int getPositionX(final int i) {
+        return x[i];
+    }
+
+    public int getPositionY(final int i) {
+        return y[i];
+    }
+
+    /**
+     * @param i
+     *            Index of a live bullet.
+     * @return Upper side of the bullet before its last move, or where it
+     *         was fired if it has not moved yet.
+     */
+    public int getStepStartY(final int i) {
+        return stepStartY[i];
+    }
+
+    public int getSpeed(final int i) {
+        return speed[i];
+    }
+
+    public int getWidth(final int i) {
+        return width[i];
+    }
+
+    public int getHeight(final int i) {
+        return height[i];
+    }
+
+    public int getOwnerPlayerId(final int i) {
+        return owner[i];
+    }
+
+    public Team getTeam(final int i) {
+        return TEAMS[team[i]];
+    }
+
+    /**
+     * @param i
+     *            Index of a live bullet.
+     * @return Sprite of the bullet, based on its direction.
+     */
+    public SpriteType getSpriteType(final int i) {
+        return speed[i] < 0 ? SpriteType.Bullet : SpriteType.EnemyBullet;
+    }
+
+    /**
+     * @param i
+     *            Index of a live bullet.
+     * @param interpolation
+     *            Fraction of an update elapsed since the last one.
+     * @return Position the bullet is drawn at in the X axis.
+     */
+    public int getRenderPositionX(final int i, final float interpolation) {
+        return previousX[i] + Math.round((x[i] - previousX[i]) * interpolation);
+    }
+
+    /**
+     * @param i
+     *            Index of a live bullet.
+     * @param interpolation
+     *            Fraction of an update elapsed since the last one.
+     * @return Position the bullet is drawn at in the Y axis.
+     */
+    public int getRenderPositionY(final int i, final float interpolation) {
+        return previousY[i] + Math.round((y[i] - previousY[i]) * interpolation);
+    }
+}
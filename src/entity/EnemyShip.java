@@ -2,8 +2,6 @@ package entity;
 
 import java.awt.Color;
 
-import engine.Cooldown;
-import engine.Core;
 import engine.DrawManager.SpriteType;
 import engine.GameSettings;
 
@@ -14,7 +12,7 @@ import engine.GameSettings;
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  *
  */
-public class EnemyShip extends Entity {
+public final class EnemyShip extends Entity {
 
     /** Point value of a type A enemy. */
     private static final int A_TYPE_POINTS = 10;
@@ -30,8 +28,6 @@ public class EnemyShip extends Entity {
     private static final int C_TYPE_COINS = 5;
     private static final int BONUS_TYPE_COINS = 10;
 
-    /** Cooldown between sprite changes. */
-    private Cooldown animationCooldown;
     /** Checks if the ship has been hit by a bullet. */
     private boolean isDestroyed;
     /** Values of the ship, in points, when destroyed. */
@@ -39,10 +35,14 @@ public class EnemyShip extends Entity {
 
     private int coinValue;
 
-    /** Current health of the enemy ship */
-    private int health;
+    /** Health the ship starts with, kept in the HEALTH column. */
     private int initialHealth;
 
+    /** Lattice column of the ship in its formation, if it is in one. */
+    int formationColumn = -1;
+    /** Lattice row of the ship in its formation, if it is in one. */
+    int formationRow = -1;
+
     /**
      * Constructor, establishes the ship's properties.
      *
@@ -55,44 +55,47 @@ public class EnemyShip extends Entity {
      */
     public EnemyShip(final int positionX, final int positionY,
                      final SpriteType spriteType) {
-        super(positionX, positionY, 12 * 2, 8 * 2, Color.WHITE);
+        super(positionX, positionY, 12 * 2, 8 * 2, Color.WHITE,
+                World.HEALTH);
 
-        this.spriteType = spriteType;
-        this.animationCooldown = Core.getCooldown(500);
+        setSpriteType(spriteType);
+        setTeam(Team.ENEMY);
         this.isDestroyed = false;
 
-        switch (this.spriteType) {
+        int health;
+        switch (spriteType) {
             case EnemyShipA1:
             case EnemyShipA2:
                 this.pointValue = A_TYPE_POINTS;
                 this.coinValue = A_TYPE_COINS;
-                this.health = 2;
+                health = 2;
                 break;
             case EnemyShipB1:
             case EnemyShipB2:
                 this.pointValue = B_TYPE_POINTS;
                 this.coinValue = B_TYPE_COINS;
-                this.health = 1;
+                health = 1;
                 break;
             case EnemyShipC1:
             case EnemyShipC2:
                 this.pointValue = C_TYPE_POINTS;
                 this.coinValue = C_TYPE_COINS;
-                this.health = 1;
+                health = 1;
                 break;
             default:
                 this.pointValue = 0;
                 this.coinValue = 0;
-                this.health = 1;
+                health = 1;
                 break;
         }
 
-        this.initialHealth = this.health;
+        this.archetype.health[this.row] = health;
+        this.initialHealth = health;
     }
 
     public void changeShip(GameSettings.ChangeData changeData) {
-        this.health *= changeData.hp;
-        this.initialHealth = this.health;
+        this.archetype.health[this.row] *= changeData.hp;
+        this.initialHealth = this.archetype.health[this.row];
 
         this.changeColor(changeData.color);
 
@@ -102,16 +105,18 @@ public class EnemyShip extends Entity {
 
     /**
      * Constructor, establishes the ship's properties for a special ship, with
-     * known starting properties.
+     * known starting properties. It flies across the screen by its velocity.
      */
     public EnemyShip() {
-        super(-32, 80, 16 * 2, 7 * 2, Color.RED);
+        super(-32, 80, 16 * 2, 7 * 2, Color.RED,
+                World.HEALTH | World.VELOCITY);
 
-        this.spriteType = SpriteType.EnemyShipSpecial;
+        setSpriteType(SpriteType.EnemyShipSpecial);
+        setTeam(Team.ENEMY);
         this.isDestroyed = false;
         this.pointValue = BONUS_TYPE_POINTS;
         this.coinValue = BONUS_TYPE_COINS;
-        this.health = 1;
+        this.archetype.health[this.row] = 1;
     }
 
     /**
@@ -132,72 +137,39 @@ public class EnemyShip extends Entity {
      *            Distance to move in the Y axis.
      */
     public final void move(final int distanceX, final int distanceY) {
-        this.positionX += distanceX;
-        this.positionY += distanceY;
-    }
-
-    /**
-     * Updates attributes, mainly used for animation purposes.
-     */
-    public final void update() {
-        if (this.animationCooldown.checkFinished()) {
-            this.animationCooldown.reset();
-
-            switch (this.spriteType) {
-                case EnemyShipA1:
-                    this.spriteType = SpriteType.EnemyShipA2;
-                    break;
-                case EnemyShipA2:
-                    this.spriteType = SpriteType.EnemyShipA1;
-                    break;
-                case EnemyShipB1:
-                    this.spriteType = SpriteType.EnemyShipB2;
-                    break;
-                case EnemyShipB2:
-                    this.spriteType = SpriteType.EnemyShipB1;
-                    break;
-                case EnemyShipC1:
-                    this.spriteType = SpriteType.EnemyShipC2;
-                    break;
-                case EnemyShipC2:
-                    this.spriteType = SpriteType.EnemyShipC1;
-                    break;
-                default:
-                    break;
-            }
-        }
+        translate(distanceX, distanceY);
     }
 
     /** Returns the current health of the enemy ship */
     public int getHealth() {
-        return this.health;
+        return this.archetype.health[this.row];
     }
 
     /** Reduces enemy health by 1 and handles destruction or damage animation if health drops to 0 */
 
     public final void hit() {
-        this.health--;
-        if (this.health <= 0) {
+        int health = --this.archetype.health[this.row];
+        if (health <= 0) {
             this.isDestroyed = true;
-            this.spriteType = SpriteType.Explosion;
+            setSpriteType(SpriteType.Explosion);
             Color color = this.getColor();
             color = new Color(color.getRed(), color.getGreen(), color.getBlue(), 255);
             changeColor(color);
         }
 
         else {
-            switch (this.spriteType) {
+            switch (getSpriteType()) {
                 case EnemyShipA1:
                 case EnemyShipA2:
-                    this.spriteType = SpriteType.EnemyShipA2;
+                    setSpriteType(SpriteType.EnemyShipA2);
                     break;
                 case EnemyShipB1:
                 case EnemyShipB2:
-                    this.spriteType = SpriteType.EnemyShipB2;
+                    setSpriteType(SpriteType.EnemyShipB2);
                     break;
                 case EnemyShipC1:
                 case EnemyShipC2:
-                    this.spriteType = SpriteType.EnemyShipC2;
+                    setSpriteType(SpriteType.EnemyShipC2);
                     break;
                 default:
                     break;
@@ -205,6 +177,10 @@ public class EnemyShip extends Entity {
             Color color = this.getColor();
             if(initialHealth != 0) {
                 int alpha = (int)Math.clamp(70 + 150 * (float)health / initialHealth, 0, 255);
+                // A-type enemies left with one hit fade almost out.
+                if (getSpriteType() == SpriteType.EnemyShipA2
+                        && health == 1)
+                    alpha = 32;
                 color = new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
                 changeColor(color);
             }
@@ -212,8 +188,8 @@ public class EnemyShip extends Entity {
     }
 
     public final int getDamage(int dmg){
-        this.health -= dmg;
-        return this.health;
+        this.archetype.health[this.row] -= dmg;
+        return this.archetype.health[this.row];
     }
 
     /**
@@ -221,7 +197,7 @@ public class EnemyShip extends Entity {
      */
     public final void destroy() {
         this.isDestroyed = true;
-        this.spriteType = SpriteType.Explosion;
+        setSpriteType(SpriteType.Explosion);
     }
 
     /**
@@ -1,10 +1,10 @@
 package entity;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import engine.*;
@@ -14,6 +14,11 @@ import engine.DrawManager.SpriteType;
 /**
  * Groups enemy ships into a formation that moves together.
  *
+ * Ships sit on a fixed lattice whose cells are SEPARATION_DISTANCE apart.
+ * Which cells still hold a live ship is kept in an occupancy bitset, with
+ * a live count per column. The ships are a group of the world, placed from
+ * the origin of the group, so moving the formation only moves the origin.
+ *
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  *
  */
@@ -45,6 +50,8 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
     private static final int DESCENT_DISTANCE = 20;
     /** Minimum speed allowed. */
     private static final int MINIMUM_SPEED = 10;
+    /** Milliseconds between animation frames of the ships. */
+    private static final int ANIMATION_INTERVAL = 500;
 
     /** DrawManager instance. */
     private DrawManager drawManager;
@@ -53,10 +60,10 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
     /** Screen to draw ships on. */
     private Screen screen;
 
-    /** List of enemy ships forming the formation. */
-    private List<List<EnemyShip>> enemyShips;
     /** Minimum time between shots. */
     private Cooldown shootingCooldown;
+    /** Time between animation frames of the ships. */
+    private Cooldown animationCooldown;
     /** Number of ships in the formation - horizontally. */
     private int nShipsWide;
     /** Number of ships in the formation - vertically. */
@@ -79,16 +86,35 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
     private int width;
     /** Total height of the formation. */
     private int height;
-    /** Position in the x-axis of the upper left corner of the formation. */
-    private int positionX;
-    /** Position in the y-axis of the upper left corner of the formation. */
-    private int positionY;
     /** Width of one ship. */
     private int shipWidth;
     /** Height of one ship. */
     private int shipHeight;
-    /** List of ships that are able to shoot. */
-    private List<EnemyShip> shooters;
+    /** World the ships are in. */
+    private World world;
+    /** Group of the world holding the ships, its origin the first cell. */
+    private Archetype group;
+    /** Ships by lattice column and row, as placed at creation. */
+    private EnemyShip[][] lattice;
+    /** Live ships, one bit per lattice cell, column after column. */
+    private BitSet occupied;
+    /** Number of live ships in each lattice column. */
+    private int[] columnCounts;
+    /** Live lattice columns and rows at the edges of the formation. */
+    private int firstColumn;
+    private int lastColumn;
+    private int firstRow;
+    private int lastRow;
+    /** Whether a ship was removed since the edges were last found. */
+    private boolean boundsChanged;
+    /** Columns with a live ship, the bottom one of which can shoot. */
+    private int[] shooterColumns;
+    /** Index of each column in shooterColumns, or -1 if it is empty. */
+    private int[] shooterIndexes;
+    /** Number of columns able to shoot. */
+    private int shooterCount;
+    /** Destroyed ships still showing their explosion until the next move. */
+    private List<EnemyShip> exploding;
     /** Number of not destroyed ships. */
     private int shipCount;
 
@@ -107,11 +133,13 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
      *
      * @param gameSettings
      *            Current game settings.
+     * @param world
+     *            World to add the ships to.
      */
-    public EnemyShipFormation(final GameSettings gameSettings) {
+    public EnemyShipFormation(final GameSettings gameSettings,
+            final World world) {
         this.drawManager = Core.getDrawManager();
         this.logger = Core.getLogger();
-        this.enemyShips = new ArrayList<List<EnemyShip>>();
         this.currentDirection = Direction.RIGHT;
         this.movementInterval = 0;
         this.nShipsWide = gameSettings.getFormationWidth();
@@ -121,49 +149,52 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
                 * SHOOTING_VARIANCE);
         this.baseSpeed = gameSettings.getBaseSpeed();
         this.movementSpeed = this.baseSpeed;
-        this.positionX = INIT_POS_X;
-        this.positionY = INIT_POS_Y;
-        this.shooters = new ArrayList<EnemyShip>();
+        this.animationCooldown = Core.getCooldown(ANIMATION_INTERVAL);
+        this.lattice = new EnemyShip[this.nShipsWide][this.nShipsHigh];
+        this.occupied = new BitSet(this.nShipsWide * this.nShipsHigh);
+        this.columnCounts = new int[this.nShipsWide];
+        this.shooterColumns = new int[this.nShipsWide];
+        this.shooterIndexes = new int[this.nShipsWide];
+        this.exploding = new ArrayList<EnemyShip>();
+        this.world = world;
+        this.group = world.createGroup(World.HEALTH, INIT_POS_X, INIT_POS_Y);
         SpriteType spriteType;
 
         this.logger.info("Initializing " + nShipsWide + "x" + nShipsHigh
-                + " ship formation in (" + positionX + "," + positionY + ")");
-
-        // Each sub-list is a column on the formation.
-        for (int i = 0; i < this.nShipsWide; i++)
-            this.enemyShips.add(new ArrayList<EnemyShip>());
+                + " ship formation in (" + INIT_POS_X + "," + INIT_POS_Y
+                + ")");
 
-        for (List<EnemyShip> column : this.enemyShips) {
-            for (int i = 0; i < this.nShipsHigh; i++) {
-                if (i / (float) this.nShipsHigh < PROPORTION_C)
+        for (int column = 0; column < this.nShipsWide; column++) {
+            for (int row = 0; row < this.nShipsHigh; row++) {
+                if (row / (float) this.nShipsHigh < PROPORTION_C)
                     spriteType = SpriteType.EnemyShipC1;
-                else if (i / (float) this.nShipsHigh < PROPORTION_B
+                else if (row / (float) this.nShipsHigh < PROPORTION_B
                         + PROPORTION_C)
                     spriteType = SpriteType.EnemyShipB1;
                 else
                     spriteType = SpriteType.EnemyShipA1;
 
-                column.add(new EnemyShip((SEPARATION_DISTANCE
-                        * this.enemyShips.indexOf(column))
-                        + positionX, (SEPARATION_DISTANCE * i)
-                        + positionY, spriteType));
+                EnemyShip ship = new EnemyShip(SEPARATION_DISTANCE * column
+                        + INIT_POS_X, SEPARATION_DISTANCE * row + INIT_POS_Y,
+                        spriteType);
+                ship.formationColumn = column;
+                ship.formationRow = row;
+                world.add(ship, this.group);
+                this.lattice[column][row] = ship;
+                this.occupied.set(cell(column, row));
                 this.shipCount++;
             }
+            this.columnCounts[column] = this.nShipsHigh;
+            this.shooterColumns[column] = column;
+            this.shooterIndexes[column] = column;
         }
+        this.shooterCount = this.nShipsWide;
 
-        this.shipWidth = this.enemyShips.get(0).get(0).getWidth();
-        this.shipHeight = this.enemyShips.get(0).get(0).getHeight();
-
-        this.width = (this.nShipsWide - 1) * SEPARATION_DISTANCE
-                + this.shipWidth;
-        this.height = (this.nShipsHigh - 1) * SEPARATION_DISTANCE
-                + this.shipHeight;
-
-        for (List<EnemyShip> column : this.enemyShips)
-            this.shooters.add(column.get(column.size() - 1));
+        this.shipWidth = this.lattice[0][0].getWidth();
+        this.shipHeight = this.lattice[0][0].getHeight();
 
         for (GameSettings.ChangeData changeData : gameSettings.getChangeDataList()){
-            EnemyShip ship = this.enemyShips.get(changeData.x).get(changeData.y);
+            EnemyShip ship = this.lattice[changeData.x][changeData.y];
 
             if(changeData.hp == 0){
                 destroy(ship);
@@ -173,19 +204,9 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
             }
         }
 
-        List<EnemyShip> destroyed;
-        for (List<EnemyShip> column : this.enemyShips) {
-            destroyed = new ArrayList<EnemyShip>();
-            for (EnemyShip ship : column) {
-                if (ship != null && ship.isDestroyed()) {
-                    destroyed.add(ship);
-                    this.logger.info("Removed enemy "
-                            + column.indexOf(ship) + " from column "
-                            + this.enemyShips.indexOf(column));
-                }
-            }
-            column.removeAll(destroyed);
-        }
+        // Ships left out of the level never show an explosion.
+        clearExplosions();
+        updateBounds();
     }
 
     /**
@@ -198,16 +219,6 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
         screen = newScreen;
     }
 
-    /**
-     * Draws every individual component of the formation.
-     */
-    public final void draw() {
-        for (List<EnemyShip> column : this.enemyShips)
-            for (EnemyShip enemyShip : column)
-                drawManager.drawEntity(enemyShip, enemyShip.getPositionX(),
-                        enemyShip.getPositionY());
-    }
-
     /**
      * Updates the position of the ships.
      */
@@ -218,7 +229,8 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
             this.shootingCooldown.reset();
         }
 
-        cleanUp();
+        if (this.boundsChanged)
+            updateBounds();
 
         int movementX = 0;
         int movementY = 0;
@@ -232,6 +244,10 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
         if (movementInterval >= this.movementSpeed) {
             movementInterval = 0;
 
+            int positionX = this.group.originX
+                    + this.firstColumn * SEPARATION_DISTANCE;
+            int positionY = this.group.originY
+                    + this.firstRow * SEPARATION_DISTANCE;
             boolean isAtBottom = positionY
                     + this.height > screen.getHeight() - BOTTOM_MARGIN;
             boolean isAtRightSide = positionX
@@ -277,73 +293,110 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
             else
                 movementY = Y_SPEED;
 
-            positionX += movementX;
-            positionY += movementY;
-
-            // Cleans explosions.
-            List<EnemyShip> destroyed;
-            for (List<EnemyShip> column : this.enemyShips) {
-                destroyed = new ArrayList<EnemyShip>();
-                for (EnemyShip ship : column) {
-                    if (ship != null && ship.isDestroyed()) {
-                        destroyed.add(ship);
-                        this.logger.info("Removed enemy "
-                                + column.indexOf(ship) + " from column "
-                                + this.enemyShips.indexOf(column));
-                    }
-                }
-                column.removeAll(destroyed);
-            }
+            // Cleans explosions, before they move with the formation.
+            clearExplosions();
 
-            for (List<EnemyShip> column : this.enemyShips)
-                for (EnemyShip enemyShip : column) {
-                    enemyShip.move(movementX, movementY);
-                    enemyShip.update();
-                }
+            this.world.moveGroup(this.group, movementX, movementY);
+
+            if (this.animationCooldown.checkFinished()) {
+                this.animationCooldown.reset();
+                this.world.animate(this.group);
+            }
         }
     }
 
     /**
-     * Cleans empty columns, adjusts the width and height of the formation.
+     * Takes the destroyed ships showing their explosion out of the world.
      */
-    private void cleanUp() {
-        Set<Integer> emptyColumns = new HashSet<Integer>();
-        int maxColumn = 0;
-        int minPositionY = Integer.MAX_VALUE;
-        for (List<EnemyShip> column : this.enemyShips) {
-            if (!column.isEmpty()) {
-                // Height of this column
-                int columnSize = column.get(column.size() - 1).positionY
-                        - this.positionY + this.shipHeight;
-                maxColumn = Math.max(maxColumn, columnSize);
-                minPositionY = Math.min(minPositionY, column.get(0)
-                        .getPositionY());
-            } else {
-                // Empty column, we remove it.
-                emptyColumns.add(this.enemyShips.indexOf(column));
-            }
-        }
-        for (int index : emptyColumns) {
-            this.enemyShips.remove(index);
-            logger.info("Removed column " + index);
-        }
-
-        int leftMostPoint = 0;
-        int rightMostPoint = 0;
+    private void clearExplosions() {
+        for (int i = 0; i < this.exploding.size(); i++)
+            this.world.remove(this.exploding.get(i));
+        this.exploding.clear();
+    }
 
-        for (List<EnemyShip> column : this.enemyShips) {
-            if (!column.isEmpty()) {
-                if (leftMostPoint == 0)
-                    leftMostPoint = column.get(0).getPositionX();
-                rightMostPoint = column.get(0).getPositionX();
-            }
+    /**
+     * Finds the live lattice columns and rows at the edges of the
+     * formation, and its width and height from them.
+     */
+    private void updateBounds() {
+        this.boundsChanged = false;
+        if (this.shipCount <= 0)
+            return;
+
+        this.firstColumn = 0;
+        while (this.columnCounts[this.firstColumn] == 0)
+            this.firstColumn++;
+        this.lastColumn = this.nShipsWide - 1;
+        while (this.columnCounts[this.lastColumn] == 0)
+            this.lastColumn--;
+
+        this.firstRow = this.nShipsHigh - 1;
+        this.lastRow = 0;
+        for (int column = this.firstColumn; column <= this.lastColumn;
+                column++) {
+            if (this.columnCounts[column] == 0)
+                continue;
+            this.firstRow = Math.min(this.firstRow,
+                    this.occupied.nextSetBit(cell(column, 0))
+                            - cell(column, 0));
+            this.lastRow = Math.max(this.lastRow, bottomRow(column));
         }
 
-        this.width = rightMostPoint - leftMostPoint + this.shipWidth;
-        this.height = maxColumn;
+        this.width = (this.lastColumn - this.firstColumn)
+                * SEPARATION_DISTANCE + this.shipWidth;
+        this.height = (this.lastRow - this.firstRow)
+                * SEPARATION_DISTANCE + this.shipHeight;
+    }
 
-        this.positionX = leftMostPoint;
-        this.positionY = minPositionY;
+    /**
+     * Finds the ship first hit by a sprite moving up or down, such as a
+     * bullet. Ships sit on a lattice SEPARATION_DISTANCE apart, so only the
+     * lattice cells the sprite can reach during its move are checked, and
+     * their pixels only when the bounding boxes overlap.
+     *
+     * @param mask
+     *            Lit pixels of the sprite.
+     * @param x
+     *            Left side of the sprite.
+     * @param fromY
+     *            Upper side of the sprite at the start of its move.
+     * @param toY
+     *            Upper side of the sprite at the end of its move.
+     * @return The ship still alive the sprite reaches first, or null.
+     */
+    public final EnemyShip enemyAt(final CollisionMask mask, final int x,
+            final int fromY, final int toY) {
+        int latticeX = this.group.originX;
+        int latticeY = this.group.originY;
+        int top = Math.min(fromY, toY);
+        int bottom = Math.max(fromY, toY);
+        int firstColumn = Math.max(0, Math.floorDiv(
+                x - latticeX - this.shipWidth, SEPARATION_DISTANCE));
+        int lastColumn = Math.min(this.nShipsWide - 1, Math.floorDiv(
+                x + mask.getWidth() - latticeX, SEPARATION_DISTANCE));
+        int firstRow = Math.max(0, Math.floorDiv(
+                top - latticeY - this.shipHeight, SEPARATION_DISTANCE));
+        int lastRow = Math.min(this.nShipsHigh - 1, Math.floorDiv(
+                bottom + mask.getHeight() - latticeY, SEPARATION_DISTANCE));
+
+        EnemyShip first = null;
+        int firstDistance = Integer.MAX_VALUE;
+        for (int column = firstColumn; column <= lastColumn; column++)
+            for (int row = firstRow; row <= lastRow; row++) {
+                if (!this.occupied.get(cell(column, row)))
+                    continue;
+                EnemyShip ship = this.lattice[column][row];
+                CollisionMask shipMask = this.drawManager.getCollisionMask(
+                        ship.getSpriteType(), this.shipWidth, this.shipHeight);
+                int distance = CollisionMask.sweep(mask, x, fromY, toY,
+                        shipMask, latticeX + column * SEPARATION_DISTANCE,
+                        latticeY + row * SEPARATION_DISTANCE);
+                if (distance >= 0 && distance < firstDistance) {
+                    first = ship;
+                    firstDistance = distance;
+                }
+            }
+        return first;
     }
 
     /**
@@ -352,17 +405,17 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
      * C-type fires double bullets, B-type fires faster bullets.
      *
      * @param bullets
-     *            Bullets set to add the bullet being shot.
+     *            Bullets on screen, to fire the bullet being shot into.
      */
-    public final void shoot(final Set<Bullet> bullets) {
-        if (this.shooters.isEmpty()) return;
-
-        int index = (int) (Math.random() * this.shooters.size());
-        EnemyShip shooter = this.shooters.get(index);
+    public final void shoot(final BulletSystem bullets) {
+        if (this.shooterCount == 0) return;
 
         if (this.shootingCooldown.checkFinished()) {
             this.shootingCooldown.reset();
 
+            int index = (int) (Math.random() * this.shooterCount);
+            EnemyShip shooter = getNextShooter(this.shooterColumns[index]);
+
             int bulletWidth = 3 * 2;
             int bulletHeight = 5 * 2;
             int spawnY = shooter.getPositionY() + shooter.getHeight();
@@ -378,21 +431,15 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
                     || shooter.getSpriteType() == SpriteType.EnemyShipC2) {
                 int offset = 6;
 
-                Bullet b1 = BulletPool.getBullet(
-                        shooter.getPositionX() + shooter.getWidth() / 2 - offset,
-                        spawnY, bulletSpeed, bulletWidth, bulletHeight, Entity.Team.ENEMY);
-                bullets.add(b1);
+                bullets.spawn(shooter.getPositionX() + shooter.getWidth() / 2 - offset,
+                        spawnY, bulletSpeed, bulletWidth, bulletHeight, Entity.Team.ENEMY, 0);
 
-                Bullet b2 = BulletPool.getBullet(
-                        shooter.getPositionX() + shooter.getWidth() / 2 + offset,
-                        spawnY, bulletSpeed, bulletWidth, bulletHeight, Entity.Team.ENEMY);
-                bullets.add(b2);
+                bullets.spawn(shooter.getPositionX() + shooter.getWidth() / 2 + offset,
+                        spawnY, bulletSpeed, bulletWidth, bulletHeight, Entity.Team.ENEMY, 0);
 
             } else {
-                Bullet b = BulletPool.getBullet(
-                        shooter.getPositionX() + shooter.getWidth() / 2,
-                        spawnY, bulletSpeed, bulletWidth, bulletHeight, Entity.Team.ENEMY);
-                bullets.add(b);
+                bullets.spawn(shooter.getPositionX() + shooter.getWidth() / 2,
+                        spawnY, bulletSpeed, bulletWidth, bulletHeight, Entity.Team.ENEMY, 0);
             }
         }
     }
@@ -404,37 +451,28 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
      *            Ship to be destroyed.
      */
     public final void destroy(final EnemyShip destroyedShip) {
-        for (List<EnemyShip> column : this.enemyShips)
-            for (int i = 0; i < column.size(); i++)
-                if (column.get(i).equals(destroyedShip)) {
-                    column.get(i).destroy();
-                    this.logger.info("Destroyed ship in ("
-                            + this.enemyShips.indexOf(column) + "," + i + ")");
-                }
-
-        // Updates the list of ships that can shoot the player.
-        if (this.shooters.contains(destroyedShip)) {
-            int destroyedShipIndex = this.shooters.indexOf(destroyedShip);
-            int destroyedShipColumnIndex = -1;
-
-            for (List<EnemyShip> column : this.enemyShips)
-                if (column.contains(destroyedShip)) {
-                    destroyedShipColumnIndex = this.enemyShips.indexOf(column);
-                    break;
-                }
-
-            EnemyShip nextShooter = getNextShooter(this.enemyShips
-                    .get(destroyedShipColumnIndex));
-
-            if (nextShooter != null)
-                this.shooters.set(destroyedShipIndex, nextShooter);
-            else {
-                this.shooters.remove(destroyedShipIndex);
-                this.logger.info("Shooters list reduced to "
-                        + this.shooters.size() + " members.");
-            }
+        int column = destroyedShip.formationColumn;
+        int row = destroyedShip.formationRow;
+        if (column < 0 || !this.occupied.get(cell(column, row)))
+            return;
+
+        destroyedShip.destroy();
+        this.exploding.add(destroyedShip);
+        this.occupied.clear(cell(column, row));
+        this.logger.info("Destroyed ship in (" + column + "," + row + ")");
+
+        // An emptied column can no longer shoot the player.
+        if (--this.columnCounts[column] == 0) {
+            int index = this.shooterIndexes[column];
+            int last = this.shooterColumns[--this.shooterCount];
+            this.shooterColumns[index] = last;
+            this.shooterIndexes[last] = index;
+            this.shooterIndexes[column] = -1;
+            this.logger.info("Shooters list reduced to "
+                    + this.shooterCount + " members.");
         }
 
+        this.boundsChanged = true;
         this.shipCount--;
     }
 
@@ -442,19 +480,13 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
      * Gets the ship on a given column that will be in charge of shooting.
      *
      * @param column
-     *            Column to search.
-     * @return New shooter ship.
+     *            Lattice column to search.
+     * @return New shooter ship, or null if the column is empty.
      */
-    public final EnemyShip getNextShooter(final List<EnemyShip> column) {
-        Iterator<EnemyShip> iterator = column.iterator();
-        EnemyShip nextShooter = null;
-        while (iterator.hasNext()) {
-            EnemyShip checkShip = iterator.next();
-            if (checkShip != null && !checkShip.isDestroyed())
-                nextShooter = checkShip;
-        }
-
-        return nextShooter;
+    public final EnemyShip getNextShooter(final int column) {
+        if (this.columnCounts[column] == 0)
+            return null;
+        return this.lattice[column][bottomRow(column)];
     }
 
     /**
@@ -464,13 +496,38 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
      */
     @Override
     public final Iterator<EnemyShip> iterator() {
-        Set<EnemyShip> enemyShipsList = new HashSet<EnemyShip>();
+        List<EnemyShip> enemyShipsList = new ArrayList<EnemyShip>(
+                this.shipCount + this.exploding.size());
+        forEach(enemyShipsList::add);
+        return enemyShipsList.iterator();
+    }
+
+    /**
+     * Runs an action on every ship in the formation, without building a
+     * list of them first.
+     *
+     * @param action
+     *            Action to run on each enemy ship.
+     */
+    @Override
+    public final void forEach(final Consumer<? super EnemyShip> action) {
+        for (int cell = this.occupied.nextSetBit(0); cell >= 0;
+                cell = this.occupied.nextSetBit(cell + 1))
+            action.accept(this.lattice[cell / this.nShipsHigh]
+                    [cell % this.nShipsHigh]);
+        for (EnemyShip enemyShip : this.exploding)
+            action.accept(enemyShip);
+    }
 
-        for (List<EnemyShip> column : this.enemyShips)
-            for (EnemyShip enemyShip : column)
-                enemyShipsList.add(enemyShip);
+    /** Lowest row of a column holding a live ship. */
+    private int bottomRow(final int column) {
+        return this.occupied.previousSetBit(cell(column, this.nShipsHigh - 1))
+                - cell(column, 0);
+    }
 
-        return enemyShipsList.iterator();
+    /** Bit of a lattice cell in the occupancy set. */
+    private int cell(final int column, final int row) {
+        return column * this.nShipsHigh + row;
     }
 
 
@@ -489,6 +546,4 @@ public class EnemyShipFormation implements Iterable<EnemyShip> {
     public int getShipCount() {
         return this.shipCount;
     }
-}
-
-
+}
\ No newline at end of file
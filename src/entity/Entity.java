@@ -12,27 +12,18 @@ import engine.DrawManager.SpriteType;
  */
 public class Entity {
 
-    /** Position in the x-axis of the upper left corner of the entity. */
-    protected int positionX;
-    /** Position in the y-axis of the upper left corner of the entity. */
-    protected int positionY;
-    /** Width of the entity. */
-    protected int width;
-    /** Height of the entity. */
-    protected int height;
-    /** Color of the entity. */
-    private Color color;
-    /** Sprite type assigned to the entity. */
-    protected SpriteType spriteType;
+    /** Components of the entity while out of any world. */
+    final Archetype detached;
+    /** Archetype holding the components of the entity. */
+    Archetype archetype;
+    /** Row of the entity in its archetype. */
+    int row;
 
     // 2P mode: adding team for multiplayer
     public enum Team {
         PLAYER1, PLAYER2, ENEMY, NEUTRAL
     }
 
-    // every entity knows their team - possibility for friendly-fire?
-    protected Team team = Team.NEUTRAL;
-
     /**
      * Constructor, establishes the entity's generic properties.
      *
@@ -49,11 +40,42 @@ public class Entity {
      */
     public Entity(final int positionX, final int positionY, final int width,
                   final int height, final Color color) {
-        this.positionX = positionX;
-        this.positionY = positionY;
-        this.width = width;
-        this.height = height;
-        this.color = color;
+        this(positionX, positionY, width, height, color, 0);
+    }
+
+    /**
+     * Constructor, establishes the entity's generic properties and the
+     * components it has in a world.
+     *
+     * @param positionX
+     *                  Initial position of the entity in the X axis.
+     * @param positionY
+     *                  Initial position of the entity in the Y axis.
+     * @param width
+     *                  Width of the entity.
+     * @param height
+     *                  Height of the entity.
+     * @param color
+     *                  Color of the entity.
+     * @param components
+     *                  Components on top of the generic ones, such as
+     *                  World.VELOCITY.
+     */
+    protected Entity(final int positionX, final int positionY,
+                     final int width, final int height, final Color color,
+                     final int components) {
+        Archetype storage = Archetype.detached(components);
+        storage.x[0] = positionX;
+        storage.y[0] = positionY;
+        storage.previousX[0] = positionX;
+        storage.previousY[0] = positionY;
+        storage.width[0] = width;
+        storage.height[0] = height;
+        storage.color[0] = color;
+        // every entity knows their team - possibility for friendly-fire?
+        storage.team[0] = Team.NEUTRAL;
+        this.detached = storage;
+        this.archetype = storage;
     }
 
     /**
@@ -62,11 +84,11 @@ public class Entity {
      * @return Color of the entity, used when drawing it.
      */
     public final Color getColor() {
-        return color;
+        return this.archetype.color[this.row];
     }
 
     public final void changeColor(Color color) {
-        this.color = color;
+        this.archetype.color[this.row] = color;
     }
 
     /**
@@ -75,7 +97,7 @@ public class Entity {
      * @return Position of the entity in the X axis.
      */
     public final int getPositionX() {
-        return this.positionX;
+        return this.archetype.originX + this.archetype.x[this.row];
     }
 
     /**
@@ -84,27 +106,91 @@ public class Entity {
      * @return Position of the entity in the Y axis.
      */
     public final int getPositionY() {
-        return this.positionY;
+        return this.archetype.originY + this.archetype.y[this.row];
     }
 
     /**
-     * Setter for the X axis position of the entity.
+     * Setter for the X axis position of the entity. The entity is placed
+     * there directly, without interpolating from where it was.
      *
      * @param positionX
      *                  New position of the entity in the X axis.
      */
     public final void setPositionX(final int positionX) {
-        this.positionX = positionX;
+        Archetype archetype = this.archetype;
+        archetype.x[this.row] = positionX - archetype.originX;
+        archetype.previousX[this.row] = positionX - archetype.previousOriginX;
     }
 
     /**
-     * Setter for the Y axis position of the entity.
+     * Setter for the Y axis position of the entity. The entity is placed
+     * there directly, without interpolating from where it was.
      *
      * @param positionY
      *                  New position of the entity in the Y axis.
      */
     public final void setPositionY(final int positionY) {
-        this.positionY = positionY;
+        Archetype archetype = this.archetype;
+        archetype.y[this.row] = positionY - archetype.originY;
+        archetype.previousY[this.row] = positionY - archetype.previousOriginY;
+    }
+
+    /**
+     * Moves the entity from where it is, drawing it in between from one
+     * update to the next.
+     *
+     * @param distanceX
+     *                  Distance to move in the X axis.
+     * @param distanceY
+     *                  Distance to move in the Y axis.
+     */
+    protected final void translate(final int distanceX, final int distanceY) {
+        this.archetype.x[this.row] += distanceX;
+        this.archetype.y[this.row] += distanceY;
+    }
+
+    /**
+     * Setter for the distance a world moves the entity every update. Only
+     * entities created with the VELOCITY component have one.
+     *
+     * @param velocityX
+     *                  Distance per update in the X axis.
+     * @param velocityY
+     *                  Distance per update in the Y axis.
+     */
+    public final void setVelocity(final int velocityX, final int velocityY) {
+        this.archetype.velocityX[this.row] = velocityX;
+        this.archetype.velocityY[this.row] = velocityY;
+    }
+
+    /**
+     * Getter for the X axis position the entity is drawn at.
+     *
+     * @param interpolation
+     *                  Fraction of an update elapsed since the last one.
+     * @return Position between the previous and current one in the X axis.
+     */
+    public final int getRenderPositionX(final float interpolation) {
+        Archetype archetype = this.archetype;
+        int previous = archetype.previousOriginX
+                + archetype.previousX[this.row];
+        return previous + Math.round((archetype.originX
+                + archetype.x[this.row] - previous) * interpolation);
+    }
+
+    /**
+     * Getter for the Y axis position the entity is drawn at.
+     *
+     * @param interpolation
+     *                  Fraction of an update elapsed since the last one.
+     * @return Position between the previous and current one in the Y axis.
+     */
+    public final int getRenderPositionY(final float interpolation) {
+        Archetype archetype = this.archetype;
+        int previous = archetype.previousOriginY
+                + archetype.previousY[this.row];
+        return previous + Math.round((archetype.originY
+                + archetype.y[this.row] - previous) * interpolation);
     }
 
     /**
@@ -113,7 +199,17 @@ public class Entity {
      * @return Sprite corresponding to the entity.
      */
     public final SpriteType getSpriteType() {
-        return this.spriteType;
+        return this.archetype.sprite[this.row];
+    }
+
+    /**
+     * Setter for the sprite that the entity will be drawn as.
+     *
+     * @param spriteType
+     *                  New sprite of the entity.
+     */
+    protected final void setSpriteType(final SpriteType spriteType) {
+        this.archetype.sprite[this.row] = spriteType;
     }
 
     /**
@@ -122,7 +218,7 @@ public class Entity {
      * @return Width of the entity.
      */
     public final int getWidth() {
-        return this.width;
+        return this.archetype.width[this.row];
     }
 
     /**
@@ -131,17 +227,17 @@ public class Entity {
      * @return Height of the entity.
      */
     public final int getHeight() {
-        return this.height;
+        return this.archetype.height[this.row];
     }
 
     // 2P mode: adding getters for Team
     // TODO: add team-based canHit() later - friendly fire?
-    public Team getTeam() {
-        return team;
+    public final Team getTeam() {
+        return this.archetype.team[this.row];
     }
 
-    public void setTeam(Team t) {
-        this.team = (t == null ? Team.NEUTRAL : t);
+    public final void setTeam(Team t) {
+        this.archetype.team[this.row] = (t == null ? Team.NEUTRAL : t);
     }
 
-}
\ No newline at end of file
+}
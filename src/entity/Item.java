@@ -14,7 +14,7 @@ import engine.ItemEffect;
 /**
  * Implements Item that moves vertically down.
  */
-public class Item extends Entity {
+public final class Item extends Entity {
 
     /** Logger instance for logging purposes. */
     private Logger logger;
@@ -25,6 +25,9 @@ public class Item extends Entity {
     /** Item Movement Speed. */
     private int itemSpeed;
 
+    /** Data of the type of Item, null if the type is unknown. */
+    private ItemData data;
+
     /**
      * Constructor, establishes the Item's properties.
      *
@@ -42,32 +45,38 @@ public class Item extends Entity {
 
     public Item(String itemType, final int positionX, final int positionY, final int speed) {
 
-        super(positionX, positionY, 3 * 2, 5 * 2, Color.WHITE);
+        super(positionX, positionY, 3 * 2, 5 * 2, Color.WHITE,
+                World.VELOCITY);
 
         logger = Core.getLogger();
 
         this.type = itemType;
         this.itemSpeed = speed;
+        setVelocity(0, speed);
 
         setSprite();
     }
 
+    /**
+     * Constructor for pooled items, given a type by reset() when used.
+     */
+    Item() {
+        super(0, 0, 3 * 2, 5 * 2, Color.WHITE, World.VELOCITY);
+
+        logger = Core.getLogger();
+    }
+
     /**
      * Setter for the sprite of the Item using data from ItemDB.
      */
     public final void setSprite() {
-        ItemDB itemDB = new ItemDB();
-        ItemData data = itemDB.getItemData(this.type);
+        this.data = ItemDB.getInstance().getItemData(this.type);
 
         if (data != null) {
-            try {
-                this.spriteType = SpriteType.valueOf(data.getSpriteType());
-            } catch (IllegalArgumentException e) {
-                this.spriteType = SpriteType.ItemScore; // fallback
-                this.logger.warning("[Item]: Unknown sprite type in ItemDB: " + data.getSpriteType() + ", using default.");
-            }
+            // Unknown sprite types already fell back to ItemScore on load.
+            setSpriteType(data.getSprite());
         } else {
-            this.spriteType = SpriteType.ItemScore;
+            setSpriteType(SpriteType.ItemScore);
         }
     }
 
@@ -75,7 +84,7 @@ public class Item extends Entity {
      * Updates the Item's position.
      */
     public final void update() {
-        this.positionY += this.itemSpeed;
+        translate(0, this.itemSpeed);
     }
 
     /**
@@ -87,9 +96,6 @@ public class Item extends Entity {
      *            ID of the player to apply the effect to.
      */
     public boolean applyEffect(final GameState gameState, final int playerId) {
-        ItemDB itemDB = new ItemDB();
-        ItemData data = itemDB.getItemData(this.type);
-
         if (data == null) return false;
 
         int value = data.getEffectValue();
@@ -142,6 +148,7 @@ public class Item extends Entity {
      */
     public final void setItemSpeed(final int itemSpeed) {
         this.itemSpeed = itemSpeed;
+        setVelocity(0, itemSpeed);
     }
 
     /**
@@ -163,9 +170,24 @@ public class Item extends Entity {
     public final void reset(String newType) {
         this.type = newType;
         this.itemSpeed = 0;
+        setVelocity(0, 0);
         setSprite(); // change to your enum if different
     }
 
+    /**
+     * Reset the Item to a type already looked up in the ItemDB.
+     *
+     * @param newData
+     *            data of the new type of the Item.
+     */
+    final void reset(final ItemData newData) {
+        this.type = newData.getType();
+        this.data = newData;
+        this.itemSpeed = 0;
+        setVelocity(0, 0);
+        setSpriteType(newData.getSprite());
+    }
+
     /**
      * Getter for the speed of the Item.
      *
@@ -1,16 +1,21 @@
 package entity;
 
 import engine.ItemData;
-import java.util.HashSet;
-import java.util.Set;
+import engine.ObjectPool;
+import engine.PoolStats;
+import java.util.Collection;
 
 /**
  * Implements a pool of recyclable items.
  */
 public final class ItemPool {
 
-    /** Set of items. */
-    private static Set<Item> pool = new HashSet<Item>();
+    /** Most items kept for reuse. */
+    private static final int CAPACITY = 64;
+
+    /** Items available for reuse. */
+    private static final ObjectPool<Item> pool = new ObjectPool<Item>(
+            "Item", CAPACITY, Item::new);
 
     /**
      * Constructor, not called.
@@ -36,32 +41,40 @@ public final class ItemPool {
      * @return Requested item.
      */
     public static Item getItem(ItemData data, int positionX, int positionY, int speed) {
-        String type = data.getType();
-        // create new item
-        Item item;
-        if (!pool.isEmpty()) {
-            item = pool.iterator().next();
-            pool.remove(item);
-
-            item.reset(type);
-            item.setPositionX(positionX - item.getWidth() / 2);
-            item.setPositionY(positionY);
-            item.setItemSpeed(speed);
-        } else {
-            item = new Item(type, positionX - 3, positionY, speed);
-        }
-
+        Item item = pool.acquire();
+        item.reset(data);
+        item.setPositionX(positionX - item.getWidth() / 2);
+        item.setPositionY(positionY);
+        item.setItemSpeed(speed);
         return item;
     }
 
+    /**
+     * Creates items ahead of time, so the first drops do not allocate.
+     *
+     * @param count
+     *            Items to have available.
+     */
+    public static void prewarm(final int count) {
+        pool.prewarm(count);
+    }
+
     /**
      * Adds one or more items to the list of available ones.
      *
      * @param items
      *            Items to recycle.
      */
-    public static void recycle(final Set<Item> items) {
+    public static void recycle(final Collection<Item> items) {
         if (items == null) return;
-        pool.addAll(items);
+        for (Item item : items)
+            pool.release(item);
+    }
+
+    /**
+     * @return Usage counters of the pool.
+     */
+    public static PoolStats getStats() {
+        return pool.getStats();
     }
 }
\ No newline at end of file
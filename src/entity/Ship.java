@@ -1,7 +1,6 @@
 package entity;
 
 import java.awt.Color;
-import java.util.Set;
 
 import engine.Cooldown;
 import engine.Core;
@@ -16,7 +15,7 @@ import static engine.ItemEffect.ItemEffectType.*;
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  *
  */
-public class Ship extends Entity {
+public final class Ship extends Entity {
 
     /** Bullet Variables **/
     //default bullet variables
@@ -59,6 +58,9 @@ public class Ship extends Entity {
     // Identify player in index: 0 = P1, 1 = P2
     private int playerIndex = 0;
 
+    /** Color of the ship of each player, by player index. */
+    private static final Color[] PLAYER_COLORS = { Color.BLUE, Color.RED };
+
     private int Y;
     private int hits;
 
@@ -78,11 +80,12 @@ public class Ship extends Entity {
      */
     public Ship(final int positionX, final int positionY, final Team team,
                 final ShipType type, final GameState gameState) {
-        super(positionX, positionY, SHIP_WIDTH, SHIP_HEIGHT, Color.GREEN);
+        super(positionX, positionY, SHIP_WIDTH, SHIP_HEIGHT,
+                PLAYER_COLORS[team == Team.PLAYER2 ? 1 : 0]);
 
         this.gameState = gameState;
         this.type = (type != null) ? type : ShipType.NORMAL;
-        this.spriteType = SpriteType.Ship1;
+        setSpriteType(SpriteType.Ship1);
 
         initializeShipProperties(this.type);
 
@@ -91,7 +94,7 @@ public class Ship extends Entity {
 
         // apply entity
         Team playerID = (team != null) ? team : Team.PLAYER1;
-        this.setTeam(playerID);
+        setTeam(playerID);
         this.playerIndex = (playerID == Team.PLAYER1) ? 0 : (playerID == Team.PLAYER2) ? 1 : 0;
 
         this.Y = positionY;
@@ -111,16 +114,16 @@ public class Ship extends Entity {
                 this.moveSpeed -= 1;
                 this.bulletWidth = 9;  // 3 * 3
                 this.bulletHeight = 15; // 5 * 3
-                this.spriteType = SpriteType.Ship2;
+                setSpriteType(SpriteType.Ship2);
                 break;
             case DOUBLE_SHOT:
                 this.moveSpeed -= 1;
-                this.spriteType = SpriteType.Ship3;
+                setSpriteType(SpriteType.Ship3);
                 break;
             case MOVE_FAST:
                 this.moveSpeed += 1;
                 this.shootingInterval += 150;
-                this.spriteType = SpriteType.Ship4;
+                setSpriteType(SpriteType.Ship4);
                 break;
             case NORMAL:
             default:
@@ -131,32 +134,32 @@ public class Ship extends Entity {
     /**
      * Moves the ship speed uni ts right, or until the right screen border is reached.
      */
-    public final void moveRight() { this.positionX += this.moveSpeed; }
+    public final void moveRight() { translate(this.moveSpeed, 0); }
 
     /**
      * Moves the ship speed units left, or until the left screen border is reached.
      */
     public final void moveLeft() {
-        this.positionX -= this.moveSpeed;
+        translate(-this.moveSpeed, 0);
     }
 
     /**
      * Shoots a bullet based on ship type and active effects.
      *
      * @param bullets
-     *                List of bullets on screen, to add the new bullet.
+     *                Bullets on screen, to fire the new bullet into.
      * @return
      *                True if shooting was successful, false if on cooldown
      */
-    public final boolean shoot(final Set<Bullet> bullets) {
+    public final boolean shoot(final BulletSystem bullets) {
 
         if (!this.shootingCooldown.checkFinished()) { return false; }
 
         this.shootingCooldown.reset();
         Core.getLogger().info("[Ship] Shooting :" + this.type);
 
-        int bulletX = positionX + this.width / 2;
-        int bulletY = this.positionY - this.bulletHeight;
+        int bulletX = getPositionX() + getWidth() / 2;
+        int bulletY = getPositionY() - this.bulletHeight;
 
         if (hasTripleShotEffect()) {
             shootTripleShot(bullets, bulletX, bulletY);
@@ -173,18 +176,18 @@ public class Ship extends Entity {
      */
     public final void update() {
         if (!this.destructionCooldown.checkFinished())
-            switch (this.spriteType) {
-                case Ship1 -> this.spriteType = SpriteType.ShipDestroyed1;
-                case Ship2 -> this.spriteType = SpriteType.ShipDestroyed2;
-                case Ship3 -> this.spriteType = SpriteType.ShipDestroyed3;
-                case Ship4 -> this.spriteType = SpriteType.ShipDestroyed4;
+            switch (getSpriteType()) {
+                case Ship1 -> setSpriteType(SpriteType.ShipDestroyed1);
+                case Ship2 -> setSpriteType(SpriteType.ShipDestroyed2);
+                case Ship3 -> setSpriteType(SpriteType.ShipDestroyed3);
+                case Ship4 -> setSpriteType(SpriteType.ShipDestroyed4);
             }
         else
-            switch (this.spriteType) {
-                case ShipDestroyed1 -> this.spriteType = SpriteType.Ship1;
-                case ShipDestroyed2 -> this.spriteType = SpriteType.Ship2;
-                case ShipDestroyed3 -> this.spriteType = SpriteType.Ship3;
-                case ShipDestroyed4 -> this.spriteType = SpriteType.Ship4;
+            switch (getSpriteType()) {
+                case ShipDestroyed1 -> setSpriteType(SpriteType.Ship1);
+                case ShipDestroyed2 -> setSpriteType(SpriteType.Ship2);
+                case ShipDestroyed3 -> setSpriteType(SpriteType.Ship3);
+                case ShipDestroyed4 -> setSpriteType(SpriteType.Ship4);
         }
     }
 
@@ -214,13 +217,16 @@ public class Ship extends Entity {
     // 2P mode: adding playerIndex getter and setter
     public final int getPlayerId() { return this.playerIndex + 1; }
 
-    public void setPlayerId(int id) { this.playerIndex = id -1; }
+    public void setPlayerId(int id) {
+        this.playerIndex = id -1;
+        changeColor(PLAYER_COLORS[this.playerIndex]);
+    }
 
 
     /**
      * Fires bullets based on ship type.
      */
-    private void shootBasedOnType(final Set<Bullet> bullets, final int centerX, final int bulletY) {
+    private void shootBasedOnType(final BulletSystem bullets, final int centerX, final int bulletY) {
         switch (this.type) {
             case DOUBLE_SHOT:
                 addBullet(bullets, centerX - DOUBLE_SHOT_OFFSET, bulletY);
@@ -238,14 +244,12 @@ public class Ship extends Entity {
     /**
      * Creates and adds a bullet to the game.
      */
-    private void addBullet(final Set<Bullet> bullets, final int x, final int y) {
+    private void addBullet(final BulletSystem bullets, final int x, final int y) {
         int speedMultiplier = getBulletSpeedMultiplier();
         int currentBulletSpeed = this.bulletSpeed * speedMultiplier;
 
-        Bullet bullet = BulletPool.getBullet(x, y, currentBulletSpeed,
-                this.bulletWidth, this.bulletHeight, this.getTeam());
-        bullet.setOwnerPlayerId(this.getPlayerId());
-        bullets.add(bullet);
+        bullets.spawn(x, y, currentBulletSpeed, this.bulletWidth,
+                this.bulletHeight, this.getTeam(), this.getPlayerId());
     }
 
     /** ========================= Item Effect check ========================= **/
@@ -278,7 +282,7 @@ public class Ship extends Entity {
     /**
      * TRIPLESHOT effect
      */
-    private void shootTripleShot(final Set<Bullet> bullets, final int centerX, final int bulletY) {
+    private void shootTripleShot(final BulletSystem bullets, final int centerX, final int bulletY) {
         Core.getLogger().info("[Ship] Item effect: TRIPLESHOT");
         Integer TRIPLE_SHOT_OFFSET = gameState.getEffectValue(playerIndex, TRIPLESHOT);
 
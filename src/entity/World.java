@@ -0,0 +1,365 @@
+package entity;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+import engine.CollisionGrid;
+import engine.DrawManager.SpriteType;
+
+/**
+ * Entities in play, with their components packed by archetype: every
+ * entity with the same components shares a set of parallel arrays, and the
+ * systems below walk those arrays instead of the entities. Entity and its
+ * subclasses are facades over their row, so game code keeps reading and
+ * writing them as before.
+ *
+ * Every entity has a position, a size, a sprite, a color and a team. It
+ * declares the components it needs on top of those when created:
+ * VELOCITY, HEALTH and LIFETIME. Adding and removing an entity is constant
+ * time, removing moves the last entity of its archetype into its row.
+ *
+ * Groups are archetypes whose entities move together, placed from the
+ * origin of the group, such as the enemy formation. Bullets have their own
+ * packed table, the BulletSystem of the world.
+ */
+public final class World {
+
+    /** Component: moved by its velocity every update. */
+    public static final int VELOCITY = 1;
+    /** Component: a number of hits it can take. */
+    public static final int HEALTH = 2;
+    /** Component: leaves the world after a number of updates. */
+    public static final int LIFETIME = 4;
+
+    /** Every archetype, groups included. */
+    private final List<Archetype> archetypes = new ArrayList<Archetype>();
+    /** Archetypes other than groups, by components. */
+    private final Archetype[] byComponents =
+            new Archetype[(VELOCITY | HEALTH | LIFETIME) + 1];
+    /** Bullets on screen. */
+    private final BulletSystem bullets = new BulletSystem();
+
+    /**
+     * Draws the sprites of the entities, for the rendering system.
+     */
+    public interface SpriteRenderer {
+        /**
+         * Draws a sprite.
+         *
+         * @param spriteType
+         *            Sprite to draw.
+         * @param color
+         *            Color of the sprite.
+         * @param width
+         *            Width of the sprite.
+         * @param height
+         *            Height of the sprite.
+         * @param positionX
+         *            Left side of the sprite.
+         * @param positionY
+         *            Upper side of the sprite.
+         */
+        void drawSprite(SpriteType spriteType, Color color, int width,
+                int height, int positionX, int positionY);
+    }
+
+    /**
+     * Adds an entity, in the archetype of the components it declares.
+     * Entities already in the world are left where they are.
+     *
+     * @param entity
+     *            Entity to add.
+     */
+    public void add(final Entity entity) {
+        if (entity.archetype.world == this)
+            return;
+        remove(entity);
+        attach(entity, archetype(entity.archetype.components));
+    }
+
+    /**
+     * Adds an entity to a group.
+     *
+     * @param entity
+     *            Entity to add, out of any world.
+     * @param group
+     *            Group of this world.
+     */
+    void add(final Entity entity, final Archetype group) {
+        remove(entity);
+        attach(entity, group);
+    }
+
+    /**
+     * Removes an entity. Its components are kept on the entity, where it
+     * was last placed.
+     *
+     * @param entity
+     *            Entity to remove, ignored if it is in no world.
+     */
+    public void remove(final Entity entity) {
+        Archetype archetype = entity.archetype;
+        if (archetype.world == null)
+            return;
+        int row = entity.row;
+        Archetype.copy(archetype, row, entity.detached, 0);
+        entity.archetype = entity.detached;
+        entity.row = 0;
+        archetype.remove(row);
+    }
+
+    /**
+     * Checks if an entity is in this world.
+     *
+     * @param entity
+     *            Entity to check.
+     * @return True if the entity was added and not removed since.
+     */
+    public boolean contains(final Entity entity) {
+        return entity.archetype.world == this;
+    }
+
+    /**
+     * Removes every entity and bullet.
+     */
+    public void clear() {
+        for (int i = 0; i < this.archetypes.size(); i++) {
+            Archetype archetype = this.archetypes.get(i);
+            for (int row = archetype.count - 1; row >= 0; row--)
+                remove(archetype.entities[row]);
+        }
+        this.bullets.clear();
+    }
+
+    /**
+     * Creates a group, whose entities are placed from its origin.
+     *
+     * @param components
+     *            Components of the entities of the group.
+     * @param originX
+     *            Position of the origin in the X axis.
+     * @param originY
+     *            Position of the origin in the Y axis.
+     * @return New group, empty.
+     */
+    Archetype createGroup(final int components, final int originX,
+            final int originY) {
+        Archetype group = new Archetype(this, components, true);
+        group.originX = originX;
+        group.originY = originY;
+        group.previousOriginX = originX;
+        group.previousOriginY = originY;
+        this.archetypes.add(group);
+        return group;
+    }
+
+    /**
+     * Gives an entity of this world a number of updates left, after which
+     * it is removed. It joins the archetype with the LIFETIME component if
+     * it is not in one.
+     *
+     * @param entity
+     *            Entity of this world.
+     * @param updates
+     *            Updates left.
+     */
+    public void setLifetime(final Entity entity, final int updates) {
+        Archetype archetype = entity.archetype;
+        if (archetype.world != this)
+            return;
+        if (archetype.lifetime == null) {
+            int row = entity.row;
+            Archetype target = archetype(archetype.components | LIFETIME);
+            entity.archetype = target;
+            entity.row = target.add(entity);
+            Archetype.copy(archetype, row, target, entity.row);
+            archetype.remove(row);
+        }
+        entity.archetype.lifetime[entity.row] = updates;
+    }
+
+    /**
+     * @return Bullets on screen.
+     */
+    public BulletSystem getBullets() {
+        return this.bullets;
+    }
+
+    /**
+     * Remembers where every entity, group and bullet was before anything
+     * moves, so draws in between updates can interpolate from there.
+     */
+    public void savePreviousPositions() {
+        for (int i = 0; i < this.archetypes.size(); i++) {
+            Archetype archetype = this.archetypes.get(i);
+            System.arraycopy(archetype.x, 0, archetype.previousX, 0,
+                    archetype.count);
+            System.arraycopy(archetype.y, 0, archetype.previousY, 0,
+                    archetype.count);
+            archetype.previousOriginX = archetype.originX;
+            archetype.previousOriginY = archetype.originY;
+        }
+        this.bullets.savePreviousPositions();
+    }
+
+    /**
+     * Movement system: moves every entity with the VELOCITY component by its
+     * velocity, for one update. Bullets move with BulletSystem.update().
+     */
+    public void move() {
+        for (int i = 0; i < this.archetypes.size(); i++) {
+            Archetype archetype = this.archetypes.get(i);
+            if (archetype.velocityX == null)
+                continue;
+            for (int row = 0; row < archetype.count; row++) {
+                archetype.x[row] += archetype.velocityX[row];
+                archetype.y[row] += archetype.velocityY[row];
+            }
+        }
+    }
+
+    /**
+     * Lifetime system: counts down an update of every entity with the
+     * LIFETIME component, removing those with none left.
+     */
+    public void age() {
+        for (int i = 0; i < this.archetypes.size(); i++) {
+            Archetype archetype = this.archetypes.get(i);
+            if (archetype.lifetime == null)
+                continue;
+            // Backwards, removing moves in a row already counted.
+            for (int row = archetype.count - 1; row >= 0; row--)
+                if (--archetype.lifetime[row] <= 0)
+                    remove(archetype.entities[row]);
+        }
+    }
+
+    /**
+     * Animation system: switches every entity of a group to the other
+     * frame of its sprite. Sprites with a single frame are left as they are.
+     *
+     * @param group
+     *            Group of this world.
+     */
+    void animate(final Archetype group) {
+        for (int row = 0; row < group.count; row++)
+            group.sprite[row] = nextFrame(group.sprite[row]);
+    }
+
+    /**
+     * Moves a group and every entity in it.
+     *
+     * @param group
+     *            Group of this world.
+     * @param distanceX
+     *            Distance to move in the X axis.
+     * @param distanceY
+     *            Distance to move in the Y axis.
+     */
+    void moveGroup(final Archetype group, final int distanceX,
+            final int distanceY) {
+        group.originX += distanceX;
+        group.originY += distanceY;
+    }
+
+    /**
+     * Collision system: brings a collision grid up to date with where every
+     * entity is after this update's movement. Groups are left out, as they
+     * find their entities faster from their own layout, like the formation
+     * from its lattice. Bullets, which are not entities, query the grid.
+     *
+     * @param grid
+     *            Grid to update.
+     */
+    public void updateGrid(final CollisionGrid grid) {
+        grid.beginUpdate();
+        for (int i = 0; i < this.archetypes.size(); i++) {
+            Archetype archetype = this.archetypes.get(i);
+            if (archetype.group)
+                continue;
+            for (int row = 0; row < archetype.count; row++)
+                grid.update(archetype.entities[row]);
+        }
+        grid.endUpdate();
+    }
+
+    /**
+     * Rendering system: draws every entity between its previous and current
+     * position.
+     *
+     * @param renderer
+     *            Draws each sprite.
+     * @param interpolation
+     *            Fraction of an update elapsed since the last one.
+     */
+    public void render(final SpriteRenderer renderer,
+            final float interpolation) {
+        for (int i = 0; i < this.archetypes.size(); i++) {
+            Archetype archetype = this.archetypes.get(i);
+            for (int row = 0; row < archetype.count; row++) {
+                int previousX = archetype.previousOriginX
+                        + archetype.previousX[row];
+                int previousY = archetype.previousOriginY
+                        + archetype.previousY[row];
+                renderer.drawSprite(archetype.sprite[row],
+                        archetype.color[row], archetype.width[row],
+                        archetype.height[row],
+                        previousX + Math.round((archetype.originX
+                                + archetype.x[row] - previousX)
+                                * interpolation),
+                        previousY + Math.round((archetype.originY
+                                + archetype.y[row] - previousY)
+                                * interpolation));
+            }
+        }
+    }
+
+    /**
+     * Places an entity in a new row of an archetype.
+     */
+    private void attach(final Entity entity, final Archetype archetype) {
+        int row = archetype.add(entity);
+        Archetype.copy(entity.detached, 0, archetype, row);
+        entity.archetype = archetype;
+        entity.row = row;
+    }
+
+    /**
+     * Finds the archetype of a set of components, creating it if needed.
+     */
+    private Archetype archetype(final int components) {
+        Archetype archetype = this.byComponents[components];
+        if (archetype == null) {
+            archetype = new Archetype(this, components, false);
+            this.byComponents[components] = archetype;
+            this.archetypes.add(archetype);
+        }
+        return archetype;
+    }
+
+    /**
+     * @param spriteType
+     *            Sprite of an animated entity.
+     * @return The other frame of the sprite, or the same sprite if it has
+     *         one frame.
+     */
+    private static SpriteType nextFrame(final SpriteType spriteType) {
+        switch (spriteType) {
+            case EnemyShipA1:
+                return SpriteType.EnemyShipA2;
+            case EnemyShipA2:
+                return SpriteType.EnemyShipA1;
+            case EnemyShipB1:
+                return SpriteType.EnemyShipB2;
+            case EnemyShipB2:
+                return SpriteType.EnemyShipB1;
+            case EnemyShipC1:
+                return SpriteType.EnemyShipC2;
+            case EnemyShipC2:
+                return SpriteType.EnemyShipC1;
+            default:
+                return spriteType;
+        }
+    }
+}
@@ -16,6 +16,8 @@ public class AchievementScreen extends Screen {
     private List<Achievement> achievements;
     private List<String> completer;
     private int currentIdx = 0;
+    /** Whether the back button was hovered in the last frame drawn. */
+    private boolean backHovered;
 
     public AchievementScreen(final int width, final int height, final int fps) {
         super(width, height, fps);
@@ -45,16 +47,17 @@ public class AchievementScreen extends Screen {
         if (inputManager.isKeyDown(KeyEvent.VK_RIGHT) && inputDelay.checkFinished()) {
             currentIdx = (currentIdx + 1) % achievements.size();
             completer = fileManager.getAchievementCompleter(achievements.get(currentIdx));
+            drawManager.damageAll();
             inputDelay.reset();
         }
         if (inputManager.isKeyDown(KeyEvent.VK_LEFT) && inputDelay.checkFinished()) {
             currentIdx = (currentIdx - 1 + achievements.size()) % achievements.size();
             completer = fileManager.getAchievementCompleter(achievements.get(currentIdx));
+            drawManager.damageAll();
             inputDelay.reset();
         }
 
         super.update();
-        draw();
 
         if (inputManager.isKeyDown(KeyEvent.VK_ESCAPE) && this.inputDelay.checkFinished()) {
             this.returnCode = 1;
@@ -74,16 +77,23 @@ public class AchievementScreen extends Screen {
         }
     }
 
-    private void draw() {
-        drawManager.initDrawing(this);
-        drawManager.drawAchievementMenu(this, achievements.get(currentIdx), completer);
-
-        // hover highlight
+    protected final void draw() {
         int mx = inputManager.getMouseX();
         int my = inputManager.getMouseY();
+
+        // hover highlight
         java.awt.Rectangle backBox = drawManager.getBackButtonHitbox(this);
+        boolean backHover = backBox.contains(mx, my);
+        if (backHover != this.backHovered) {
+            drawManager.damageBackButton();
+            this.backHovered = backHover;
+        }
+        if (!drawManager.initDamagedDrawing(this))
+            return;
+
+        drawManager.drawAchievementMenu(this, achievements.get(currentIdx), completer);
 
-        if (backBox.contains(mx, my)) {
+        if (backHover) {
             drawManager.drawBackButton(this, true);
         }
 
@@ -1,22 +1,23 @@
 package screen;
 
 import java.awt.event.KeyEvent;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
-import Animations.Explosion;
 import engine.Cooldown;
 import engine.Core;
 import engine.GameSettings;
 import engine.GameState;
 import engine.*;
 import engine.SoundManager;
-import entity.Bullet;
-import entity.BulletPool;
+import entity.BulletSystem;
 import entity.EnemyShip;
 import entity.EnemyShipFormation;
 import entity.Entity;
 import entity.Ship;
+import entity.World;
 
 // NEW Item code
 import entity.Item;
@@ -62,12 +63,10 @@ public class GameScreen extends Screen {
     private Ship[] ships = new Ship[GameState.NUM_PLAYERS];
     /** Minimum time between bonus ship appearances. */
     private Cooldown enemyShipSpecialCooldown;
-    /** Time until bonus ship explosion disappears. */
-    private Cooldown enemyShipSpecialExplosionCooldown;
     /** Time from finishing the level to screen change. */
     private Cooldown screenFinishedCooldown;
-    /** Set of all bullets fired by on screen ships. */
-    private Set<Bullet> bullets;
+    /** Bullets fired by on screen ships. */
+    private BulletSystem bullets;
     /** Set of all items spawned. */
     private Set<Item> items;
     private long gameStartTime;
@@ -93,6 +92,38 @@ public class GameScreen extends Screen {
     private final int coopDividerX;
     private final int coopDividerHalfWidth;
 
+    /** Width and height of the achievement toast card, with its border. */
+    private static final int TOAST_WIDTH = 350 + 4;
+    private static final int TOAST_HEIGHT = 110 + 4;
+    /** Score, lives, coins, level and ship count above the play field. */
+    private final CachedLayer hudLayer;
+    /** Values the HUD is drawn from, filled again every frame. */
+    private final int[] hudInputs = new int[6];
+    /** Draws the HUD from hudInputs. */
+    private final Runnable hudPainter;
+    /** Achievement toast card. */
+    private final CachedLayer toastLayer;
+    /** Draws the toast of the active achievement. */
+    private final Runnable toastPainter;
+
+    /** Items created before the level starts, more than ever fall at once. */
+    private static final int ITEM_POOL_PREWARM = 16;
+
+    /** Every ship, item and bullet in play, moved and drawn together. */
+    private World world;
+
+    /** Teams of the player ships, by player index. */
+    private static final Entity.Team[] PLAYER_TEAMS = {
+            Entity.Team.PLAYER1, Entity.Team.PLAYER2 };
+    /** Side of a collision grid cell, about the largest sprite's size. */
+    private static final int COLLISION_CELL_SIZE = 32;
+    /** Player ships and items, by area and team. */
+    private final CollisionGrid bodyGrid;
+    /** Reused list of entities returned by collision grid queries. */
+    private final List<Entity> collisionCandidates = new ArrayList<Entity>();
+    /** Reused list of items leaving play this update. */
+    private final List<Item> removedItems = new ArrayList<Item>();
+
     /** checks if player took damage
      * 2025-10-02 add new variable
      * */
@@ -145,6 +176,12 @@ public class GameScreen extends Screen {
         this.shipsDestroyed = gameState.getShipsDestroyed();
         this.coopDividerX = width / 2;
         this.coopDividerHalfWidth = COOP_DIVIDER_WIDTH / 2;
+        this.hudLayer = new CachedLayer(0, 0, width, SEPARATION_LINE_HEIGHT + 1);
+        this.hudPainter = this::drawHud;
+        this.toastPainter = this::drawToast;
+        this.toastLayer = new CachedLayer((width - TOAST_WIDTH) / 2,
+                (height - TOAST_HEIGHT) / 2, TOAST_WIDTH, TOAST_HEIGHT);
+        this.bodyGrid = new CollisionGrid(width, height, COLLISION_CELL_SIZE);
 
         // for check Achievement 2025-10-02 add
         this.achievementManager = achievementManager;
@@ -188,11 +225,20 @@ public class GameScreen extends Screen {
         super.initialize();
 
         state.clearAllEffects();
+        drawManager.clearExplosions();
+
+        // Fill the pools up front, so the first drops do not allocate, and
+        // count their use from this level on.
+        ItemPool.prewarm(ITEM_POOL_PREWARM);
+        ItemPool.getStats().reset();
+        drawManager.getExplosionStats().reset();
 
         // Start background music for gameplay
         SoundManager.startBackgroundMusic("sound/SpaceInvader-GameTheme.wav");
 
-        enemyShipFormation = new EnemyShipFormation(this.gameSettings);
+        this.world = new World();
+        enemyShipFormation = new EnemyShipFormation(this.gameSettings,
+                this.world);
         enemyShipFormation.attach(this);
 
         // 2P mode: create both ships, tagged to their respective teams
@@ -208,11 +254,14 @@ public class GameScreen extends Screen {
             this.ships[1] = null; // ensuring there's no P2 ship in 1P mode
         }
 
+        for (Ship s : this.ships)
+            if (s != null)
+                this.world.add(s);
+
         this.enemyShipSpecialCooldown = Core.getVariableCooldown(BONUS_SHIP_INTERVAL, BONUS_SHIP_VARIANCE);
         this.enemyShipSpecialCooldown.reset();
-        this.enemyShipSpecialExplosionCooldown = Core.getCooldown(BONUS_SHIP_EXPLOSION);
         this.screenFinishedCooldown = Core.getCooldown(SCREEN_CHANGE_INTERVAL);
-        this.bullets = new HashSet<Bullet>();
+        this.bullets = this.world.getBullets();
 
         // New Item Code
         this.items = new HashSet<Item>();
@@ -254,6 +303,10 @@ public class GameScreen extends Screen {
     protected final void update() {
         super.update();
 
+        savePreviousPositions();
+        drawManager.updateExplosions();
+        drawManager.updateGameSpace();
+
         // Countdown beep once during pre-start
         if (!this.inputDelay.checkFinished() && !countdownSoundPlayed) {
             long elapsed = System.currentTimeMillis() - this.gameStartTime;
@@ -270,10 +323,10 @@ public class GameScreen extends Screen {
 
             if (this.isPaused) {
                 // Pause game music when pausing - no sound during pause
-                SoundManager.stopBackgroundMusic();
+                SoundManager.pauseBackgroundMusic();
             } else {
-                // Resume game music when unpausing
-                SoundManager.startBackgroundMusic("sound/SpaceInvader-GameTheme.wav");
+                // Resume game music from where it was paused
+                SoundManager.resumeBackgroundMusic();
             }
         }
         if (this.isPaused && inputManager.isKeyDown(KeyEvent.VK_BACK_SPACE) && this.returnMenuCooldown.checkFinished()) {
@@ -341,19 +394,23 @@ public class GameScreen extends Screen {
                 }
 
                 // Special ship lifecycle
-                if (this.enemyShipSpecial != null) {
-                    if (!this.enemyShipSpecial.isDestroyed())
-                        this.enemyShipSpecial.move(2, 0);
-                    else if (this.enemyShipSpecialExplosionCooldown.checkFinished())
-                        this.enemyShipSpecial = null;
-                }
+                // Moves the special ship and falling items, and takes the
+                // special ship out once its explosion has run its time.
+                this.world.move();
+                this.world.age();
+                if (this.enemyShipSpecial != null
+                        && !this.world.contains(this.enemyShipSpecial))
+                    this.enemyShipSpecial = null;
                 if (this.enemyShipSpecial == null && this.enemyShipSpecialCooldown.checkFinished()) {
                     this.enemyShipSpecial = new EnemyShip();
+                    this.enemyShipSpecial.setVelocity(2, 0);
+                    this.world.add(this.enemyShipSpecial);
                     this.enemyShipSpecialCooldown.reset();
                     SoundManager.playLoop("sound/special_ship_sound.wav");
                     this.logger.info("A special ship appears");
                 }
                 if (this.enemyShipSpecial != null && this.enemyShipSpecial.getPositionX() > this.width) {
+                    this.world.remove(this.enemyShipSpecial);
                     this.enemyShipSpecial = null;
                     SoundManager.stop();
                     this.logger.info("The special ship has escaped");
@@ -365,9 +422,9 @@ public class GameScreen extends Screen {
                         s.update();
 
                 this.enemyShipFormation.update();
-                int bulletsBefore = this.bullets.size();
+                int bulletsBefore = this.bullets.getCount();
                 this.enemyShipFormation.shoot(this.bullets);
-                if (this.bullets.size() > bulletsBefore) {
+                if (this.bullets.getCount() > bulletsBefore) {
                     // At least one enemy bullet added
                     SoundManager.playOnce("sound/shoot_enemies.wav");
                 }
@@ -384,7 +441,6 @@ public class GameScreen extends Screen {
             // check active item affects
             state.updateEffects();
             drawManager.setLastLife(state.getLivesRemaining() == 1);
-		    draw();
 
         if (!sessionHighScoreNotified && this.state.getScore() > this.topScore) {
             sessionHighScoreNotified = true;
@@ -395,12 +451,18 @@ public class GameScreen extends Screen {
             // End condition: formation cleared or TEAM lives exhausted.
             if ((this.enemyShipFormation.isEmpty() || !state.teamAlive()) && !this.levelFinished) {
                 // The object managed by the object pool pattern must be recycled at the end of the level.
-                BulletPool.recycle(this.bullets);
-                this.bullets.removeAll(this.bullets);
-                ItemPool.recycle(items);
-                this.items.removeAll(this.items);
+                this.bullets.clear();
+                for (Item item : this.items) {
+                    this.bodyGrid.remove(item);
+                    this.world.remove(item);
+                }
+                ItemPool.recycle(this.items);
+                this.items.clear();
 
 			this.levelFinished = true;
+			this.logger.info(this.bullets.getStats().toString());
+			this.logger.info(ItemPool.getStats().toString());
+			this.logger.info(drawManager.getExplosionStats().toString());
 			this.screenFinishedCooldown.reset();
 
 			if(enemyShipFormation.getShipCount() == 0 && state.getBulletsShot() > 0 && state.getBulletsShot() == state.getShipsDestroyed()){
@@ -425,63 +487,40 @@ public class GameScreen extends Screen {
 	}
 
 
-        draw();
     }
 
     /**
      * Draws the elements associated with the screen.
      */
-    private void draw() {
-        drawManager.initDrawing(this);
-
-        drawManager.drawExplosions();
-        drawManager.updateGameSpace();
-
-        for (Ship s : this.ships)
-            if (s != null)
-                drawManager.drawEntity(s, s.getPositionX(), s.getPositionY());
+    protected final void draw() {
+        drawManager.initDrawing(this, Core.isNativeResolution());
 
-        if (this.enemyShipSpecial != null)
-            drawManager.drawEntity(this.enemyShipSpecial,
-                    this.enemyShipSpecial.getPositionX(),
-                    this.enemyShipSpecial.getPositionY());
+        // Background layer.
+        drawManager.drawGameSpace();
 
-        enemyShipFormation.draw();
+        // Play field layer.
+        drawManager.drawWorld(this.world, this.interpolation);
 
-        for (Bullet bullet : this.bullets)
-            drawManager.drawEntity(bullet, bullet.getPositionX(),
-                    bullet.getPositionY());
+        // Particles layer.
+        drawManager.drawExplosions();
 
-        // draw items
-        for (Item item : this.items)
-            drawManager.drawEntity(item, item.getPositionX(),
-                    item.getPositionY());
-
-		// Aggregate UI (team score & team lives)
-		drawManager.drawScore(this, state.getScore());
-    drawManager.drawLives(this, state.getLivesRemaining(),state.isCoop() );
-		drawManager.drawCoins(this,  state.getCoins()); // ADD THIS LINE - 2P mode: team total
-        // 2P mode: setting per-player coin count
-//        if (state.isCoop()) {
-//            // left: P1
-//            String p1 = String.format("P1  S:%d  K:%d  B:%d",
-//                    state.getScore(0), state.getShipsDestroyed(0),
-//                    state.getBulletsShot(0));
-//            // right: P2
-//            String p2 = String.format("P2  S:%d  K:%d  B:%d",
-//                    state.getScore(1), state.getShipsDestroyed(1),
-//                    state.getBulletsShot(1));
-//            drawManager.drawCenteredRegularString(this, p1, 40);
-//            drawManager.drawCenteredRegularString(this, p2, 60);
-//            // remove the unnecessary "P1 S: K: B: C:" and "P2 S: K: B: C:" lines from the game screen
-//        }
-        drawManager.drawLevel(this, this.state.getLevel());
-		drawManager.drawHorizontalLine(this, SEPARATION_LINE_HEIGHT - 1);
-        if (state.isCoop()) {
+        // HUD layer, drawn again only when what it shows changes.
+        final boolean coop = state.isCoop();
+        this.hudInputs[0] = state.getScore();
+        this.hudInputs[1] = state.getLivesRemaining();
+        this.hudInputs[2] = coop ? 1 : 0;
+        this.hudInputs[3] = state.getCoins();
+        this.hudInputs[4] = state.getLevel();
+        this.hudInputs[5] = enemyShipFormation.getShipCount();
+        drawManager.drawCachedLayer(this.hudLayer, this.hudInputs,
+                this.hudPainter);
+        // The divider tints the whole play field, compositing a cached copy
+        // would cost as much as drawing it.
+        if (coop) {
             drawManager.drawCoopDivider(this, this.coopDividerX, SEPARATION_LINE_HEIGHT, COOP_DIVIDER_WIDTH);
         }
-        drawManager.drawShipCount(this, enemyShipFormation.getShipCount());
 
+        // Overlay layer.
 		if (!this.inputDelay.checkFinished()) {
 			int countdown = (int) ((INPUT_DELAY - (System.currentTimeMillis() - this.gameStartTime)) / 1000);
 			drawManager.drawCountDown(this, this.state.getLevel(), countdown, this.bonusLife);
@@ -494,12 +533,11 @@ public class GameScreen extends Screen {
         }
 
 		// [ADD] draw achievement popups right before completing the frame
-		drawManager.drawAchievementToasts(
-				this,
-				(this.achievementManager != null)
-						? this.achievementManager.getActiveToasts()
-						: java.util.Collections.emptyList()
-		);
+		final Achievement toast = (this.achievementManager != null)
+				? this.achievementManager.getActiveToast() : null;
+		if (toast != null)
+			drawManager.drawCachedLayer(this.toastLayer, toast,
+					this.toastPainter);
 		if(this.isPaused){
 			drawManager.drawPauseOverlay(this);
 		}
@@ -507,44 +545,71 @@ public class GameScreen extends Screen {
         drawManager.completeDrawing(this);
     }
 
+    /**
+     * Draws the toast of the active achievement.
+     */
+    private void drawToast() {
+        drawManager.drawAchievementToast(this,
+                this.achievementManager.getActiveToast());
+    }
+
+    /**
+     * Draws the HUD from the values in hudInputs.
+     */
+    private void drawHud() {
+        // Aggregate UI (team score & team lives)
+        drawManager.drawScore(this, this.hudInputs[0]);
+        drawManager.drawLives(this, this.hudInputs[1], this.hudInputs[2] != 0);
+        drawManager.drawCoins(this, this.hudInputs[3]); // 2P mode: team total
+        drawManager.drawLevel(this, this.hudInputs[4]);
+        drawManager.drawShipCount(this, this.hudInputs[5]);
+        drawManager.drawHorizontalLine(this, SEPARATION_LINE_HEIGHT - 1);
+    }
+
+    /**
+     * Remembers where every moving entity was before this update, so draws
+     * in between updates can interpolate from there.
+     */
+    private void savePreviousPositions() {
+        this.world.savePreviousPositions();
+    }
+
     /**
      * Cleans bullets that go off screen.
      */
     private void cleanBullets() {
-        Set<Bullet> recyclable = new HashSet<Bullet>();
-        for (Bullet bullet : this.bullets) {
-            bullet.update();
-            if (bullet.getPositionY() < SEPARATION_LINE_HEIGHT
-                    || bullet.getPositionY() > this.height)
-                recyclable.add(bullet);
+        this.bullets.update();
+        // Backwards, removing swaps in a bullet already checked.
+        for (int i = this.bullets.getCount() - 1; i >= 0; i--) {
+            int positionY = this.bullets.getPositionY(i);
+            if (positionY < SEPARATION_LINE_HEIGHT || positionY > this.height)
+                this.bullets.remove(i);
         }
-        this.bullets.removeAll(recyclable);
-        BulletPool.recycle(recyclable);
     }
 
     /**
      * Cleans items that go off screen.
      */
     private void cleanItems() {
-        Set<Item> recyclableItems = new HashSet<Item>();
-        for (Item item : this.items) {
-            item.update();
+        this.removedItems.clear();
+        for (Item item : this.items)
             if (item.getPositionY() > this.height)
-                recyclableItems.add(item);
-        }
-        this.items.removeAll(recyclableItems);
-        ItemPool.recycle(recyclableItems);
+                this.removedItems.add(item);
+        removeItems();
     }
 
     /**
      * Manages pickups between player and items.
      */
     private void manageItemPickups() {
-        Set<Item> collected = new HashSet<Item>();
-        for (Item item : this.items) {
-
-            for(Ship ship: this.ships) {
-                if(ship == null) continue;
+        List<Item> collected = this.removedItems;
+        collected.clear();
+        for (Ship ship : this.ships) {
+            if (ship == null) continue;
+            // Items are the only neutral entities in the grid.
+            for (Entity candidate : this.bodyGrid.query(ship, Entity.Team.NEUTRAL,
+                    this.collisionCandidates)) {
+                Item item = (Item) candidate;
                 if (checkCollision(item, ship) && !collected.contains(item)) {
                     collected.add(item);
                     this.logger.info("Player " + ship.getPlayerId() + " picked up item: " + item.getType());
@@ -553,8 +618,20 @@ public class GameScreen extends Screen {
                 }
             }
         }
-        this.items.removeAll(collected);
-        ItemPool.recycle(collected);
+        removeItems();
+    }
+
+    /**
+     * Takes the items in removedItems out of play and back to the pool.
+     */
+    private void removeItems() {
+        for (Item item : this.removedItems) {
+            this.items.remove(item);
+            this.bodyGrid.remove(item);
+            this.world.remove(item);
+        }
+        ItemPool.recycle(this.removedItems);
+        this.removedItems.clear();
     }
 
     /**
@@ -562,99 +639,140 @@ public class GameScreen extends Screen {
      * → add score.
      */
     private void manageCollisions() {
-        Set<Bullet> recyclable = new HashSet<Bullet>();
-        for (Bullet bullet : this.bullets) {
-            if (bullet.getSpeed() > 0) {
-                // Enemy bullet vs both players
+        updateCollisionGrids();
 
-                for (int p = 0; p < GameState.NUM_PLAYERS; p++) {
-                    Ship ship = this.ships[p];
-                    if (ship != null && !ship.isDestroyed()
-                            && checkCollision(bullet, ship) && !this.levelFinished) {
-                        recyclable.add(bullet);
-
-
-                        drawManager.triggerExplosion(ship.getPositionX(), ship.getPositionY(), false, state.getLivesRemaining() == 1);
-                        ship.addHit();
-
-                        ship.destroy(); // explosion/respawn handled by Ship.update()
-                        SoundManager.playOnce("sound/explosion.wav");
-                        state.decLife(p); // decrement shared/team lives by 1
-
-                        // Record damage for Survivor achievement check
-                        this.tookDamageThisLevel = true;
-
-                        drawManager.setLastLife(state.getLivesRemaining() == 1);
-                        drawManager.setDeath(state.getLivesRemaining() == 0);
-
-						this.logger.info("Hit on player " + (p + 1) + ", team lives now: " + state.getLivesRemaining());
-						break;
-					}
-				}
-			} else {
-				// Player bullet vs enemies
-				// map Bullet owner id (1 or 2) to per-player index (0 or 1)
-				final int ownerId = bullet.getOwnerPlayerId(); // 1 or 2 (0 if unset)
-				final int pIdx = (ownerId == 2) ? 1 : 0; // default to P1 when unset
-
-                boolean finalShip = this.enemyShipFormation.lastShip();
-
-                // Check collision with formation enemies
-                for (EnemyShip enemyShip : this.enemyShipFormation) {
-                    if (!enemyShip.isDestroyed() && checkCollision(bullet, enemyShip)) {
-                        recyclable.add(bullet);
-                        enemyShip.hit();
-
-                        if (enemyShip.isDestroyed()) {
-                            int points = enemyShip.getPointValue();
-                            state.addCoins(pIdx, enemyShip.getCoinValue()); // 2P mode: modified to per-player coins
-
-                            drawManager.triggerExplosion(enemyShip.getPositionX(), enemyShip.getPositionY(), true, finalShip);
-                            state.addScore(pIdx, points); // 2P mode: modified to add to P1 score for now
-                            state.incShipsDestroyed(pIdx);
-
-                            // obtain drop from ItemManager (may return null)
-                            Item drop = engine.ItemManager.getInstance().obtainDrop(enemyShip);
-                            if (drop != null) {
-                                this.items.add(drop);
-                                this.logger.info("Spawned " + drop.getType() + " at " + drop.getPositionX() + "," + drop.getPositionY());
-                            }
-
-                            this.enemyShipFormation.destroy(enemyShip);
-                            SoundManager.playOnce("sound/invaderkilled.wav");
-                            this.logger.info("Hit on enemy ship.");
-
-                            checkAchievement();
-                        }
-                        break;
+        // Enemy bullets vs both players, backwards so hit bullets can be removed
+        for (int i = this.bullets.getCount() - 1; i >= 0 && !this.levelFinished; i--) {
+            if (this.bullets.getSpeed(i) <= 0)
+                continue;
+            Ship ship = shipHitBy(i);
+            if (ship == null)
+                continue;
+            this.bullets.remove(i);
+            int p = ship.getPlayerId() - 1;
+
+            drawManager.triggerExplosion(ship.getPositionX(), ship.getPositionY(), false, state.getLivesRemaining() == 1);
+            ship.addHit();
+
+            ship.destroy(); // explosion/respawn handled by Ship.update()
+            SoundManager.playOnce("sound/explosion.wav");
+            state.decLife(p); // decrement shared/team lives by 1
+
+            // Record damage for Survivor achievement check
+            this.tookDamageThisLevel = true;
+
+            drawManager.setLastLife(state.getLivesRemaining() == 1);
+            drawManager.setDeath(state.getLivesRemaining() == 0);
+
+            this.logger.info("Hit on player " + (p + 1) + ", team lives now: " + state.getLivesRemaining());
+        }
+
+        // Player bullets vs enemies, backwards so hit bullets can be removed
+        for (int i = this.bullets.getCount() - 1; i >= 0; i--) {
+            if (this.bullets.getSpeed(i) > 0)
+                continue;
+            boolean hit = false;
+
+            // map Bullet owner id (1 or 2) to per-player index (0 or 1)
+            final int ownerId = this.bullets.getOwnerPlayerId(i); // 1 or 2 (0 if unset)
+            final int pIdx = (ownerId == 2) ? 1 : 0; // default to P1 when unset
+
+            boolean finalShip = this.enemyShipFormation.lastShip();
+
+            // Check collision with the formation enemy under the bullet
+            EnemyShip enemyShip = this.enemyShipFormation.enemyAt(
+                    bulletMask(i), this.bullets.getPositionX(i),
+                    this.bullets.getStepStartY(i), this.bullets.getPositionY(i));
+            if (enemyShip != null) {
+                hit = true;
+                enemyShip.hit();
+
+                if (enemyShip.isDestroyed()) {
+                    int points = enemyShip.getPointValue();
+                    state.addCoins(pIdx, enemyShip.getCoinValue()); // 2P mode: modified to per-player coins
+
+                    drawManager.triggerExplosion(enemyShip.getPositionX(), enemyShip.getPositionY(), true, finalShip);
+                    state.addScore(pIdx, points); // 2P mode: modified to add to P1 score for now
+                    state.incShipsDestroyed(pIdx);
+
+                    // obtain drop from ItemManager (may return null)
+                    Item drop = engine.ItemManager.getInstance().obtainDrop(enemyShip);
+                    if (drop != null) {
+                        this.items.add(drop);
+                        this.world.add(drop);
+                        this.logger.info("Spawned " + drop.getType() + " at " + drop.getPositionX() + "," + drop.getPositionY());
                     }
+
+                    this.enemyShipFormation.destroy(enemyShip);
+                    SoundManager.playOnce("sound/invaderkilled.wav");
+                    this.logger.info("Hit on enemy ship.");
+
+                    checkAchievement();
                 }
+            }
 
-                if (this.enemyShipSpecial != null
-                        && !this.enemyShipSpecial.isDestroyed()
-                        && checkCollision(bullet, this.enemyShipSpecial)) {
-                    int points = this.enemyShipSpecial.getPointValue();
+            if (this.enemyShipSpecial != null
+                    && !this.enemyShipSpecial.isDestroyed()
+                    && checkCollision(i, this.enemyShipSpecial)) {
+                int points = this.enemyShipSpecial.getPointValue();
 
-                    state.addCoins(pIdx, this.enemyShipSpecial.getCoinValue()); // 2P mode: modified to per-player coins
+                state.addCoins(pIdx, this.enemyShipSpecial.getCoinValue()); // 2P mode: modified to per-player coins
 
-                    state.addScore(pIdx, points);
-                    state.incShipsDestroyed(pIdx); // 2P mode: modified incrementing ships destroyed
+                state.addScore(pIdx, points);
+                state.incShipsDestroyed(pIdx); // 2P mode: modified incrementing ships destroyed
 
-					this.enemyShipSpecial.destroy();
-                    SoundManager.stop();
-                    SoundManager.playOnce("sound/explosion.wav");
-                    drawManager.triggerExplosion(this.enemyShipSpecial.getPositionX(), this.enemyShipSpecial.getPositionY(), true, true);
-                    this.enemyShipSpecialExplosionCooldown.reset();
-                    recyclable.add(bullet);
-                }
+                this.enemyShipSpecial.destroy();
+                this.enemyShipSpecial.setVelocity(0, 0);
+                SoundManager.stop();
+                SoundManager.playOnce("sound/explosion.wav");
+                drawManager.triggerExplosion(this.enemyShipSpecial.getPositionX(), this.enemyShipSpecial.getPositionY(), true, true);
+                this.world.setLifetime(this.enemyShipSpecial,
+                        BONUS_SHIP_EXPLOSION * this.fps / 1000);
+                hit = true;
             }
+
+            if (hit)
+                this.bullets.remove(i);
         }
-        this.bullets.removeAll(recyclable);
-        BulletPool.recycle(recyclable);
     }
 
     /**
-     * Checks if two entities are colliding.
+     * Finds the player ship an enemy bullet hit, looking only at the ships
+     * in the cells the bullet moved through. A destroyed ship cannot be
+     * hit again until it respawns.
+     *
+     * @param bullet
+     *            Index of the enemy bullet.
+     * @return The ship hit, or null if there is none.
+     */
+    private Ship shipHitBy(final int bullet) {
+        int positionX = this.bullets.getPositionX(bullet);
+        int fromY = this.bullets.getStepStartY(bullet);
+        int toY = this.bullets.getPositionY(bullet);
+        int top = Math.min(fromY, toY);
+        int height = Math.abs(toY - fromY) + this.bullets.getHeight(bullet);
+        for (int p = 0; p < GameState.NUM_PLAYERS; p++) {
+            for (Entity candidate : this.bodyGrid.query(positionX, top,
+                    this.bullets.getWidth(bullet), height, PLAYER_TEAMS[p],
+                    this.collisionCandidates)) {
+                Ship ship = (Ship) candidate;
+                if (!ship.isDestroyed() && checkCollision(bullet, ship))
+                    return ship;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Brings the collision grid up to date with where every ship and item
+     * is after this update's movement, once per update.
+     */
+    private void updateCollisionGrids() {
+        this.world.updateGrid(this.bodyGrid);
+    }
+
+    /**
+     * Checks if two entities are colliding, pixel by pixel.
      *
      * @param a
      *            First entity, the bullet.
@@ -663,15 +781,39 @@ public class GameScreen extends Screen {
      * @return Result of the collision test.
      */
     private boolean checkCollision(final Entity a, final Entity b) {
-        int centerAX = a.getPositionX() + a.getWidth() / 2;
-        int centerAY = a.getPositionY() + a.getHeight() / 2;
-        int centerBX = b.getPositionX() + b.getWidth() / 2;
-        int centerBY = b.getPositionY() + b.getHeight() / 2;
-        int maxDistanceX = a.getWidth() / 2 + b.getWidth() / 2;
-        int maxDistanceY = a.getHeight() / 2 + b.getHeight() / 2;
-        int distanceX = Math.abs(centerAX - centerBX);
-        int distanceY = Math.abs(centerAY - centerBY);
-        return distanceX < maxDistanceX && distanceY < maxDistanceY;
+        return CollisionMask.overlaps(mask(a), a.getPositionX(),
+                a.getPositionY(), mask(b), b.getPositionX(), b.getPositionY());
+    }
+
+    /**
+     * Checks if a bullet hit an entity anywhere along its last move, pixel
+     * by pixel, so fast bullets cannot step over a ship between updates.
+     *
+     * @param bullet
+     *            Index of the bullet.
+     * @param b
+     *            Entity, the ship.
+     * @return Result of the collision test.
+     */
+    private boolean checkCollision(final int bullet, final Entity b) {
+        return CollisionMask.sweep(bulletMask(bullet),
+                this.bullets.getPositionX(bullet),
+                this.bullets.getStepStartY(bullet),
+                this.bullets.getPositionY(bullet),
+                mask(b), b.getPositionX(), b.getPositionY()) >= 0;
+    }
+
+    /** Lit pixels of an entity's current sprite, at its size. */
+    private CollisionMask mask(final Entity entity) {
+        return drawManager.getCollisionMask(entity.getSpriteType(),
+                entity.getWidth(), entity.getHeight());
+    }
+
+    /** Lit pixels of a bullet's sprite, at its size. */
+    private CollisionMask bulletMask(final int bullet) {
+        return drawManager.getCollisionMask(
+                this.bullets.getSpriteType(bullet),
+                this.bullets.getWidth(bullet), this.bullets.getHeight(bullet));
     }
 
     /**
@@ -19,6 +19,8 @@ public class HighScoreScreen extends Screen {
 
     /** List of past high scores. */
     private List<Score> highScores1P, highScores2P;
+    /** Whether the back button was hovered in the last frame drawn. */
+    private boolean backHovered;
 
     /**
      * Constructor, establishes the properties of the screen.
@@ -69,7 +71,6 @@ public class HighScoreScreen extends Screen {
     protected final void update() {
         super.update();
 
-        draw();
         if (inputManager.isKeyDown(KeyEvent.VK_ESCAPE)
                 && this.inputDelay.checkFinished())
             this.isRunning = false;
@@ -92,19 +93,25 @@ public class HighScoreScreen extends Screen {
     /**
      * Draws the elements associated with the screen.
      */
-    private void draw() {
-        drawManager.initDrawing(this);
+    protected final void draw() {
+        int mx = inputManager.getMouseX();
+        int my = inputManager.getMouseY();
+
+        // hover highlight
+        java.awt.Rectangle backBox = drawManager.getBackButtonHitbox(this);
+        boolean backHover = backBox.contains(mx, my);
+        if (backHover != this.backHovered) {
+            drawManager.damageBackButton();
+            this.backHovered = backHover;
+        }
+        if (!drawManager.initDamagedDrawing(this))
+            return;
 
         drawManager.drawHighScoreMenu(this);
         drawManager.drawHighScores(this, getPlayerScores("1P"), "1P"); // Left column
         drawManager.drawHighScores(this, getPlayerScores("2P"), "2P"); // Right column
 
-        // hover highlight
-        int mx = inputManager.getMouseX();
-        int my = inputManager.getMouseY();
-        java.awt.Rectangle backBox = drawManager.getBackButtonHitbox(this);
-
-        if (backBox.contains(mx, my)) {
+        if (backHover) {
             drawManager.drawBackButton(this, true);
         }
 
@@ -0,0 +1,114 @@
+package screen;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.locks.LockSupport;
+
+import engine.Core;
+import engine.DrawManager;
+import engine.GameState;
+import engine.SoundManager;
+
+/**
+ * Measures the CPU time each menu screen takes while idle, drawn with
+ * damage tracking and drawn in full every frame. Screens are updated and
+ * drawn at 60 frames a second in real time, so redraws on a timer, such as
+ * the cursor of the score screen, happen at their usual rate. Runs
+ * headless, without opening a window, so showing the frame is left out.
+ *
+ * Usage: java -Djava.awt.headless=true screen.MenuBenchmark [seconds]
+ */
+public final class MenuBenchmark {
+
+    /** Size of the screens, same as the game window. */
+    private static final int WIDTH = 448;
+    private static final int HEIGHT = 520;
+    /** Frames per second the screens are run at. */
+    private static final int FPS = 60;
+    /** Seconds run before measuring. */
+    private static final int WARMUP_SECONDS = 1;
+    /** Seconds measured by default. */
+    private static final int DEFAULT_SECONDS = 3;
+
+    private MenuBenchmark() {
+    }
+
+    /**
+     * Runs a screen for a number of seconds, without input.
+     *
+     * @param screen
+     *            Screen to run.
+     * @param full
+     *            Whether to draw the whole screen every frame.
+     * @param seconds
+     *            Seconds to run for.
+     * @return CPU time taken, in percent of one core.
+     */
+    private static double run(final Screen screen, final boolean full,
+            final int seconds) {
+        DrawManager drawManager = Core.getDrawManager();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long frameNanos = 1000000000L / FPS;
+        long start = threads.getCurrentThreadCpuTime();
+        long next = System.nanoTime();
+        for (int i = 0; i < seconds * FPS; i++) {
+            screen.update();
+            if (full)
+                drawManager.damageAll();
+            screen.draw();
+            next += frameNanos;
+            LockSupport.parkNanos(next - System.nanoTime());
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / 1e7 / seconds;
+    }
+
+    /**
+     * Measures a screen and prints its CPU time with and without damage
+     * tracking.
+     *
+     * @param name
+     *            Name of the screen.
+     * @param screen
+     *            Screen to measure.
+     * @param seconds
+     *            Seconds measured for each way of drawing.
+     */
+    private static void measure(final String name, final Screen screen,
+            final int seconds) {
+        screen.initialize();
+        run(screen, false, WARMUP_SECONDS);
+        run(screen, true, WARMUP_SECONDS);
+        double damaged = run(screen, false, seconds);
+        double full = run(screen, true, seconds);
+        SoundManager.stop();
+        System.out.printf("%-16s full %5.2f%%  damage tracked %5.2f%%%n",
+                name, full, damaged);
+    }
+
+    /**
+     * Runs the benchmark and prints the CPU time of each menu screen, in
+     * percent of one core.
+     *
+     * @param args
+     *            Optional number of seconds to measure each screen for.
+     * @throws IOException
+     *             If the score screen cannot load the high scores.
+     */
+    public static void main(final String[] args) throws IOException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0])
+                : DEFAULT_SECONDS;
+
+        measure("Title", new TitleScreen(WIDTH, HEIGHT, FPS), seconds);
+        measure("High scores", new HighScoreScreen(WIDTH, HEIGHT, FPS),
+                seconds);
+        measure("Achievements", new AchievementScreen(WIDTH, HEIGHT, FPS),
+                seconds);
+        measure("Settings", new SettingScreen(WIDTH, HEIGHT, FPS), seconds);
+        measure("Ship selection",
+                new ShipSelectionScreen(WIDTH, HEIGHT, FPS, 1), seconds);
+        measure("Score", new ScoreScreen(WIDTH, HEIGHT, FPS,
+                new GameState(3, 1200, 0, 150, 40, 25),
+                Core.getAchievementManager()), seconds);
+    }
+}
@@ -40,7 +40,6 @@ public class PlayScreen extends Screen {
 
     protected final void update() {
         super.update();
-        draw();
 
         if (this.selectionCooldown.checkFinished() && this.inputDelay.checkFinished()) {
             if (inputManager.isKeyDown(KeyEvent.VK_UP) || inputManager.isKeyDown(KeyEvent.VK_W)) {
@@ -100,7 +99,7 @@ public class PlayScreen extends Screen {
         }
     }
 
-    private void draw() {
+    protected final void draw() {
         drawManager.initDrawing(this);
 
         // hover highlight
@@ -58,6 +58,13 @@ public class ScoreScreen extends Screen {
     /** check 1P/2P mode; */
     private String mode;
 
+    /** Name input line as drawn in the last frame, -1 before any. */
+    private int drawnNameLength = -1;
+    private boolean drawnCursor;
+    /** Error and instructions lines as drawn in the last frame. */
+    private boolean drawnNameError;
+    private boolean drawnAcceptsInput;
+
     /**
      * Constructor, establishes the properties of the screen.
      *
@@ -123,7 +130,6 @@ public class ScoreScreen extends Screen {
     protected final void update() {
         super.update();
 
-		draw();
 		if (this.inputDelay.checkFinished()) {
 			if (inputManager.isKeyDown(KeyEvent.VK_ESCAPE)) {
                 // Return to main menu.
@@ -229,10 +235,29 @@ public class ScoreScreen extends Screen {
     /**
      * Draws the elements associated with the screen.
      */
-    private void draw() {
-        drawManager.initDrawing(this);
+    protected final void draw() {
+        // Only the lines that changed are drawn again. The name only
+        // changes at its end, so its length tells when it changed, and
+        // the cursor blinks every 500ms.
+        boolean cursor = (System.currentTimeMillis() / 500) % 2 == 0;
+        if (this.name.length() != this.drawnNameLength || cursor != this.drawnCursor) {
+            drawManager.damageNameInput(this);
+            this.drawnNameLength = this.name.length();
+            this.drawnCursor = cursor;
+        }
+        if (this.showNameError != this.drawnNameError) {
+            drawManager.damageNameInputError(this);
+            this.drawnNameError = this.showNameError;
+        }
+        boolean acceptsInput = this.inputDelay.checkFinished();
+        if (acceptsInput != this.drawnAcceptsInput) {
+            drawManager.damageGameOverInstructions(this);
+            this.drawnAcceptsInput = acceptsInput;
+        }
+        if (!drawManager.initDamagedDrawing(this))
+            return;
 
-		drawManager.drawGameOver(this, this.inputDelay.checkFinished());
+		drawManager.drawGameOver(this, acceptsInput);
 
         float accuracy = (this.bulletsShot > 0)
                 ? (float) this.shipsDestroyed / this.bulletsShot
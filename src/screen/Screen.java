@@ -19,6 +19,10 @@ public class Screen {
 
 	/** Milliseconds until the screen accepts user input. */
 	private static final int INPUT_DELAY = 1000;
+	/** Nanoseconds in a second. */
+	private static final long NANOS_PER_SECOND = 1000000000L;
+	/** Maximum number of updates run back to back to catch up on lag. */
+	private static final int MAX_CATCH_UP_TICKS = 5;
 
 	/** Draw Manager instance. */
 	protected DrawManager drawManager;
@@ -33,6 +37,13 @@ public class Screen {
 	protected int height;
 	/** Frames per second shown on the screen. */
 	protected int fps;
+	/** Frames drawn per second, decoupled from fps; 0 draws uncapped. */
+	protected int renderRate;
+	/**
+	 * Fraction of an update elapsed since the last one, used to interpolate
+	 * entity positions when drawing.
+	 */
+	protected float interpolation;
 	/** Screen insets. */
 	protected Insets insets;
 	/** Time until the screen accepts user input. */
@@ -57,6 +68,8 @@ public class Screen {
 		this.width = width;
 		this.height = height;
 		this.fps = fps;
+		this.renderRate = Core.getRenderRate();
+		this.interpolation = 1f;
 
 		this.drawManager = Core.getDrawManager();
 		this.inputManager = Core.getInputManager();
@@ -74,25 +87,66 @@ public class Screen {
 	}
 
 	/**
-	 * Activates the screen.
+	 * Activates the screen. The simulation advances in fixed steps of
+	 * 1 / fps seconds, measured with {@link System#nanoTime()}. Time lost to
+	 * hitches is made up with several updates in a row, bounded by
+	 * MAX_CATCH_UP_TICKS, and only the last of them is drawn.
+	 *
+	 * When the render rate differs from fps, frames are drawn at the render
+	 * rate instead, and {@link #interpolation} tells how far the next update
+	 * is, so moving entities can be drawn between their last two positions.
 	 *
 	 * @return Next screen code.
 	 */
 	public int run() {
 		this.isRunning = true;
 
+		final long tickNanos = NANOS_PER_SECOND / this.fps;
+		final long maxAccumulated = tickNanos * MAX_CATCH_UP_TICKS;
+		final boolean lockstep = this.renderRate == this.fps;
+		final long frameNanos = this.renderRate > 0
+				? NANOS_PER_SECOND / this.renderRate : 0;
+		long previousTime = System.nanoTime();
+		long accumulator = tickNanos;
+
 		while (this.isRunning) {
-			long time = System.currentTimeMillis();
+			long currentTime = System.nanoTime();
+			accumulator += currentTime - previousTime;
+			previousTime = currentTime;
+
+			// Lag beyond the catch-up budget is dropped, not replayed.
+			if (accumulator > maxAccumulated)
+				accumulator = maxAccumulated;
+
+			boolean updated = false;
+			while (accumulator >= tickNanos && this.isRunning) {
+				update();
+				accumulator -= tickNanos;
+				updated = true;
+			}
 
-			update();
+			long waitNanos;
+			if (lockstep) {
+				if (updated) {
+					this.interpolation = 1f;
+					draw();
+				}
+				waitNanos = tickNanos - accumulator
+						- (System.nanoTime() - previousTime);
+			} else {
+				this.interpolation = (float) accumulator / tickNanos;
+				draw();
+				waitNanos = frameNanos - (System.nanoTime() - currentTime);
+			}
 
-			time = (1000 / this.fps) - (System.currentTimeMillis() - time);
-			if (time > 0) {
+			if (waitNanos > 0) {
 				try {
-					TimeUnit.MILLISECONDS.sleep(time);
+					TimeUnit.NANOSECONDS.sleep(waitNanos);
 				} catch (InterruptedException e) {
 					return 0;
 				}
+			} else if (frameNanos == 0) {
+				Thread.yield();
 			}
 		}
 
@@ -100,11 +154,19 @@ public class Screen {
 	}
 
 	/**
-	 * Updates the elements on screen and checks for events.
+	 * Updates the elements on screen and checks for events. Called once per
+	 * fixed simulation step.
 	 */
 	protected void update() {
 	}
 
+	/**
+	 * Draws the elements associated with the screen. Called after the
+	 * pending updates of a frame have run.
+	 */
+	protected void draw() {
+	}
+
 	/**
 	 * Getter for screen width.
 	 *
@@ -4,6 +4,7 @@ import engine.Cooldown;
 import engine.Core;
 import engine.SoundManager;
 import java.awt.event.KeyEvent;
+import java.util.Arrays;
 
 public class SettingScreen extends Screen {
     private static final int volumeMenu = 0;
@@ -23,6 +24,19 @@ public class SettingScreen extends Screen {
     private int[] player1Keys;
     private int[] player2Keys;
 
+    /** Menu item selected in the last frame drawn, MIN_VALUE before any. */
+    private int drawnMenuItem = Integer.MIN_VALUE;
+    /** Volume bar as drawn in the last frame. */
+    private int drawnVolumeLevel;
+    private boolean drawnVolumeHighlight;
+    /** Key settings panel as drawn in the last frame. */
+    private int drawnSection;
+    private int drawnKeyIndex;
+    private final boolean[] drawnKeySelected = new boolean[3];
+    private final int[] drawnKeys = new int[3];
+    /** Whether the back button was highlighted in the last frame drawn. */
+    private boolean backHighlighted;
+
     /**
      * Constructor, establishes the properties of the screen.
      *
@@ -251,14 +265,19 @@ public class SettingScreen extends Screen {
             this.inputCooldown.reset();
         }
 
-        draw();
     }
 
     /**
      * Draws the elements associated with the screen.
      */
-    private void draw() {
-        drawManager.initDrawing(this);
+    protected final void draw() {
+        int mx = inputManager.getMouseX();
+        int my = inputManager.getMouseY();
+
+        damageChanges(mx, my);
+        if (!drawManager.initDamagedDrawing(this))
+            return;
+
         drawManager.drawSettingMenu(this);
         drawManager.drawSettingLayout(this, menuItem,this.selectMenuItem);
 
@@ -274,16 +293,55 @@ public class SettingScreen extends Screen {
                 break;
         }
 
+        drawManager.drawBackButton(this, this.backHighlighted);
+
+        drawManager.completeDrawing(this);
+    }
+
+    /**
+     * Damages the parts of the screen that changed since the last frame
+     * drawn: the whole screen when another menu item is selected, else
+     * the volume bar, the key settings panel and the back button.
+     */
+    private void damageChanges(final int mx, final int my) {
         // hover highlight
-        int mx = inputManager.getMouseX();
-        int my = inputManager.getMouseY();
         java.awt.Rectangle backBox = drawManager.getBackButtonHitbox(this);
-
         boolean backHover = backBox.contains(mx, my);
         boolean backSelected = (this. selectMenuItem == back);
-        drawManager.drawBackButton(this, backHover || backSelected);
+        if ((backHover || backSelected) != this.backHighlighted) {
+            drawManager.damageBackButton();
+            this.backHighlighted = backHover || backSelected;
+        }
 
-        drawManager.completeDrawing(this);
+        if (this.selectMenuItem != this.drawnMenuItem) {
+            drawManager.damageAll();
+            this.drawnMenuItem = this.selectMenuItem;
+        }
+
+        if (this.selectMenuItem == volumeMenu) {
+            boolean highlight = this.draggingVolume
+                    || drawManager.isVolumeIndicatorHovered(this, this.volumelevel);
+            if (this.volumelevel != this.drawnVolumeLevel
+                    || highlight != this.drawnVolumeHighlight) {
+                drawManager.damageVolumeBar(this);
+                this.drawnVolumeLevel = this.volumelevel;
+                this.drawnVolumeHighlight = highlight;
+            }
+        } else if (this.selectMenuItem == firstplayerMenu
+                || this.selectMenuItem == secondplayerMenu) {
+            int[] keys = this.selectMenuItem == firstplayerMenu
+                    ? this.player1Keys : this.player2Keys;
+            if (this.selectedSection != this.drawnSection
+                    || this.selectedKeyIndex != this.drawnKeyIndex
+                    || !Arrays.equals(this.keySelected, this.drawnKeySelected)
+                    || !Arrays.equals(keys, this.drawnKeys)) {
+                drawManager.damageKeysettings(this);
+                this.drawnSection = this.selectedSection;
+                this.drawnKeyIndex = this.selectedKeyIndex;
+                System.arraycopy(this.keySelected, 0, this.drawnKeySelected, 0, 3);
+                System.arraycopy(keys, 0, this.drawnKeys, 0, 3);
+            }
+        }
     }
 
 }
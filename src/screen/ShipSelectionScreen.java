@@ -16,6 +16,10 @@ public class ShipSelectionScreen extends Screen {
 
     private int player;
     private boolean backSelected = false; // If current state is on the back button, can't select ship
+    /** Ship shown in the last frame drawn, -1 before any. */
+    private int drawnShipIndex = -1;
+    /** Whether the back button was highlighted in the last frame drawn. */
+    private boolean backHighlighted;
 
     public ShipSelectionScreen(final int width, final int height, final int fps, final int player) {
         super(width, height, fps);
@@ -64,7 +68,6 @@ public class ShipSelectionScreen extends Screen {
 
     protected final void update() {
         super.update();
-        draw();
         if (this.selectionCooldown.checkFinished() && this.inputDelay.checkFinished()) {
             if (inputManager.isKeyDown(KeyEvent.VK_UP) || inputManager.isKeyDown(KeyEvent.VK_W)) {
                 backSelected = true;
@@ -110,17 +113,27 @@ public class ShipSelectionScreen extends Screen {
         }
     }
 
-    private void draw() {
-        drawManager.initDrawing(this);
-
-        drawManager.drawShipSelectionMenu(this, shipExamples, this.selectedShipIndex, this.player);
-
-        // hover highlight
+    protected final void draw() {
         int mx = inputManager.getMouseX();
         int my = inputManager.getMouseY();
+
+        // hover highlight
         java.awt.Rectangle backBox = drawManager.getBackButtonHitbox(this);
-        boolean backHover = backBox.contains(mx, my);
-        drawManager.drawBackButton(this, backHover || backSelected);
+        boolean backHighlight = backBox.contains(mx, my) || backSelected;
+        if (backHighlight != this.backHighlighted) {
+            drawManager.damageBackButton();
+            this.backHighlighted = backHighlight;
+        }
+        // Another ship changes the whole page.
+        if (this.selectedShipIndex != this.drawnShipIndex) {
+            drawManager.damageAll();
+            this.drawnShipIndex = this.selectedShipIndex;
+        }
+        if (!drawManager.initDamagedDrawing(this))
+            return;
+
+        drawManager.drawShipSelectionMenu(this, shipExamples, this.selectedShipIndex, this.player);
+        drawManager.drawBackButton(this, backHighlight);
 
         drawManager.completeDrawing(this);
     }
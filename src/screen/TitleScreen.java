@@ -2,6 +2,7 @@ package screen;
 
 import java.awt.event.KeyEvent;
 
+import engine.CachedLayer;
 import engine.Cooldown;
 import engine.Core;
 import engine.SoundManager;
@@ -31,6 +32,16 @@ public class TitleScreen extends Screen {
 	/** Added variable to store which menu option is currently hovered */
 	private Integer hoverOption = null;
 
+	/** Menu option highlighted in the last frame drawn, -1 before any. */
+	private int drawnHighlight = -1;
+
+	/** Title and menu, drawn over the stars. */
+	private final CachedLayer menuLayer;
+	/** Highlighted option the menu layer is drawn from, reused. */
+	private final int[] menuInputs = new int[1];
+	/** Draws the menu layer. */
+	private final Runnable menuPainter = this::drawMenuLayer;
+
 	/**
 	 * Constructor, establishes the properties of the screen.
 	 *
@@ -48,6 +59,7 @@ public class TitleScreen extends Screen {
 		this.returnCode = 1; // 2P mode: changed to default selection as 1P
 		this.selectionCooldown = Core.getCooldown(SELECTION_TIME);
 		this.selectionCooldown.reset();
+		this.menuLayer = new CachedLayer(0, 0, width, height);
 
         // Start menu music loop when the title screen is created
         SoundManager.playLoop("sound/menu_sound.wav");
@@ -71,7 +83,8 @@ public class TitleScreen extends Screen {
 	protected final void update() {
         super.update();
 
-        draw();
+        drawManager.updateMenuSpace();
+
         if (this.selectionCooldown.checkFinished() && this.inputDelay.checkFinished()) {
             if (inputManager.isKeyDown(KeyEvent.VK_UP) || inputManager.isKeyDown(KeyEvent.VK_W)) {
                 SoundManager.playOnce("sound/hover.wav");
@@ -133,8 +146,36 @@ public class TitleScreen extends Screen {
                 }
             }
         }
+
+        updateHover();
     }
 
+	/**
+	 * Checks hover based on mouse position and menu hitbox, and sets the
+	 * stars for the highlighted option.
+	 */
+	private void updateHover() {
+		int mx = inputManager.getMouseX();
+		int my = inputManager.getMouseY();
+
+		java.awt.Rectangle[] boxesForHover = drawManager.getMenuHitboxes(this);
+
+		Integer newHover = null;
+		for (int i = 0; i < boxesForHover.length; i++)
+			if (boxesForHover[i].contains(mx, my))
+				newHover = i;
+
+		if (newHover != null) {
+			this.hoverOption = newHover;
+		} else if (this.hoverOption != null) {
+			// If we had a hover and the mouse left, promote last hover to selection for persistance
+			this.menuIndex = this.hoverOption;
+			this.hoverOption = null;
+		}
+
+		drawManager.menuHover(this.hoverOption != null ? this.hoverOption : this.menuIndex);
+	}
+
 	/**
 	 * Shifts the focus to the next menu item. - modified for 2P mode selection
 	 */
@@ -153,57 +194,29 @@ public class TitleScreen extends Screen {
 	/**
 	 * Draws the elements associated with the screen.
 	 */
+	protected final void draw() {
+		// Items whose highlight changed are damaged. Stars are drawn again
+		// by drawMainMenu where they moved.
+		int highlight = this.hoverOption != null ? this.hoverOption : this.menuIndex;
+		if (highlight != this.drawnHighlight) {
+			if (this.drawnHighlight >= 0)
+				drawManager.damageMenuItem(this, this.drawnHighlight);
+			drawManager.damageMenuItem(this, highlight);
+			this.drawnHighlight = highlight;
+		}
+		this.menuInputs[0] = highlight;
+		if (!drawManager.drawMainMenu(this, this.menuLayer, this.menuInputs,
+				this.menuPainter))
+			return;
 
-	/** Check hover based on mouse position and menu hitbox. */
-	private void draw() {
-		drawManager.initDrawing(this);
-
-        // Main menu space animation
-        drawManager.updateMenuSpace();
-
-		int mx = inputManager.getMouseX();
-		int my = inputManager.getMouseY();
-		java.awt.Rectangle[] boxesForHover = drawManager.getMenuHitboxes(this);
-
-		Integer newHover = null;
-		if(boxesForHover[0].contains(mx, my)) {
-            newHover = 0;
-            drawManager.menuHover(0);
-        }
-		if(boxesForHover[1].contains(mx, my)){
-            newHover = 1;
-            drawManager.menuHover(1);
-        }
-		if(boxesForHover[2].contains(mx, my)){
-            newHover = 2;
-            drawManager.menuHover(2);
-        }
-        if(boxesForHover[3].contains(mx, my)){
-            newHover = 3;
-            drawManager.menuHover(3);
-        }
-        if(boxesForHover[4].contains(mx, my)){
-            newHover = 4;
-            drawManager.menuHover(4);
-        }
-
-        // Modify : Update after hover calculation
-        if (newHover != null) {
-            // Hover Update + Promote to Select Index when mouse is raised (to keep mouse away)
-            if (!newHover.equals(this.hoverOption)) { this.hoverOption = newHover; }
-        } else {
-            // If we had a hover and the mouse left, promote last hover to selection for persistance
-            if (this.hoverOption != null) {
-                this.menuIndex = this.hoverOption; // persist last hovered as selection
-                this.hoverOption = null; // clear hover state
-            }
-
-        }
+		drawManager.completeDrawing(this);
+	}
 
-		//pass hoverOption for menu highlights respond to mouse hover
+	/**
+	 * Draws the title and the menu, into the menu layer.
+	 */
+	private void drawMenuLayer() {
 		drawManager.drawTitle(this);
-		drawManager.drawMenu(this, this.menuIndex, hoverOption, this.menuIndex); // 2P mode: using menu index for highlighting
-
-		drawManager.completeDrawing(this);
+		drawManager.drawMenu(this, this.drawnHighlight, null, this.drawnHighlight); // 2P mode: using menu index for highlighting
 	}
-}
\ No newline at end of file
+}